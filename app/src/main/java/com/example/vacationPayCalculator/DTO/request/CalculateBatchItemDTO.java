@@ -0,0 +1,37 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) для одного элемента пакетного расчета отпускных.
+ * <p>
+ * Задается либо количество дней отпуска, либо даты начала и окончания.
+ * Поля не проверяются аннотациями: некорректный элемент не отклоняет весь пакет,
+ * а получает в ответе сообщение об ошибке вместо суммы.
+ * </p>
+ *
+ * <p>Пример:</p>
+ * <pre>
+ * {"averageSalary": 50000, "numberOfVacationDays": 14}
+ * {"averageSalary": 50000, "startDate": "2026-06-01", "endDate": "2026-06-14"}
+ * </pre>
+ *
+ * @see CalculateBatchRequestDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculateBatchItemDTO {
+    private BigDecimal averageSalary;
+
+    private Integer numberOfVacationDays;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
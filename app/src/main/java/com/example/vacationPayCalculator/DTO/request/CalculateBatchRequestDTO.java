@@ -0,0 +1,40 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для пакетного расчета отпускных.
+ * <p>
+ * Заменяет множество вызовов {@code /days} и {@code /dates} одним запросом
+ * (например, для выгрузки расчетчика по всем сотрудникам подразделения).
+ * </p>
+ *
+ * <p>Пример запроса:</p>
+ * <pre>
+ * {
+ *   "items": [
+ *     { "averageSalary": 50000, "numberOfVacationDays": 14 },
+ *     { "averageSalary": 75000, "startDate": "2026-06-01", "endDate": "2026-06-14" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @see CalculateBatchItemDTO
+ * @see com.example.vacationPayCalculator.DTO.response.CalculateBatchResponseDTO
+ * @see com.example.vacationPayCalculator.DTO.response.CalculateBatchColumnarResponseDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculateBatchRequestDTO {
+    @NotEmpty(message = "Пакет должен содержать хотя бы один элемент")
+    @Size(max = 100_000, message = "Пакет не может содержать больше 100000 элементов")
+    private List<@NotNull(message = "Элемент пакета не может быть null") CalculateBatchItemDTO> items;
+}
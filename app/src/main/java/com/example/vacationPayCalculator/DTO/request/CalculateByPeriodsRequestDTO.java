@@ -0,0 +1,47 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для запроса расчета отпускных по нескольким периодам.
+ * <p>
+ * Используется, когда ежегодный отпуск разделен на части. Периоды не должны
+ * пересекаться, а суммарное количество оплачиваемых дней не должно превышать 28.
+ * </p>
+ *
+ * <p>Пример запроса:</p>
+ * <pre>
+ * {
+ *   "averageSalary": 50000,
+ *   "periods": [
+ *     { "startDate": "2026-06-01", "endDate": "2026-06-14" },
+ *     { "startDate": "2026-12-21", "endDate": "2026-12-27" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @see VacationPeriodDTO
+ * @see com.example.vacationPayCalculator.DTO.response.CalculateByPeriodsResponseDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculateByPeriodsRequestDTO {
+    @NotNull(message = "Средняя зарплата обязательна")
+    @DecimalMin(value = "0.01", message = "Зарплата должна быть больше 0")
+    private BigDecimal averageSalary;
+
+    @NotEmpty(message = "Должен быть указан хотя бы один период отпуска")
+    @Size(max = 28, message = "Количество периодов отпуска не может превышать 28")
+    private List<@NotNull(message = "Период отпуска не может быть null") @Valid VacationPeriodDTO> periods;
+}
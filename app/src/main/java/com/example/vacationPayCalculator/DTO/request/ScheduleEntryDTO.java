@@ -0,0 +1,38 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) для одного интервала графика отпусков.
+ *
+ * <p>Пример:</p>
+ * <pre>
+ * {"employeeId": 10452, "averageSalary": 50000, "startDate": "2026-07-06", "endDate": "2026-07-19"}
+ * </pre>
+ *
+ * @see ScheduleLoadRequestDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleEntryDTO {
+    @NotNull(message = "Идентификатор сотрудника обязателен")
+    private Long employeeId;
+
+    @NotNull(message = "Средняя зарплата обязательна")
+    @DecimalMin(value = "0.01", message = "Зарплата должна быть больше 0")
+    private BigDecimal averageSalary;
+
+    @NotNull(message = "Дата начала отпуска обязательна к заполнению")
+    private LocalDate startDate;
+
+    @NotNull(message = "Дата окончания отпуска обязательна к заполнению")
+    private LocalDate endDate;
+}
@@ -0,0 +1,27 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для загрузки графика отпусков.
+ * <p>
+ * Содержит все интервалы отпусков; загрузка заменяет ранее загруженный график.
+ * У одного сотрудника может быть несколько интервалов.
+ * </p>
+ *
+ * @see ScheduleEntryDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleLoadRequestDTO {
+    @NotEmpty(message = "График должен содержать хотя бы один интервал отпуска")
+    private List<@NotNull(message = "Интервал отпуска не может быть null") @Valid ScheduleEntryDTO> entries;
+}
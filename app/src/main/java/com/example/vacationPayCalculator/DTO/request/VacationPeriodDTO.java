@@ -0,0 +1,27 @@
+package com.example.vacationPayCalculator.DTO.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) для одной части отпуска, разделенного на несколько периодов.
+ * <p>
+ * Даты начала и окончания включаются в период.
+ * </p>
+ *
+ * @see CalculateByPeriodsRequestDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VacationPeriodDTO {
+    @NotNull(message = "Дата начала отпуска обязательна к заполнению")
+    private LocalDate startDate;
+
+    @NotNull(message = "Дата окончания отпуска обязательна к заполнению")
+    private LocalDate endDate;
+}
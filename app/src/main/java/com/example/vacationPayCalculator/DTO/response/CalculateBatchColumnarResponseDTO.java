@@ -0,0 +1,70 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) для ответа пакетного расчета в колоночном виде.
+ * <p>
+ * Вместо массива объектов {@link CalculateResponseDTO} суммы передаются одним массивом,
+ * а повторяющиеся сообщения — словарем {@code messages}, на который ссылается
+ * {@code messageIndexes}. Имена полей и текст сообщений не повторяются для каждого
+ * элемента, поэтому ответ на тысячи элементов в несколько раз меньше построчного.
+ * </p>
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "count": 3,
+ *   "vacationPayAmounts": [23890.78, null, 22184.30],
+ *   "messages": ["Расчет выполнен успешно", "Отпуск не может быть больше 28 дней"],
+ *   "messageIndexes": [0, 1, 0]
+ * }
+ * </pre>
+ *
+ * @see CalculateBatchResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class CalculateBatchColumnarResponseDTO {
+
+    private int count;
+
+    private List<BigDecimal> vacationPayAmounts;
+
+    private List<String> messages;
+
+    private int[] messageIndexes;
+
+    /**
+     * Преобразует построчные результаты в колоночный вид.
+     *
+     * @param results результаты в порядке элементов запроса
+     * @return колоночное представление тех же результатов
+     */
+    public static CalculateBatchColumnarResponseDTO from(List<CalculateResponseDTO> results) {
+        List<BigDecimal> amounts = new ArrayList<>(results.size());
+        List<String> messages = new ArrayList<>();
+        Map<String, Integer> messageIndex = new HashMap<>();
+        int[] messageIndexes = new int[results.size()];
+
+        for (int i = 0; i < results.size(); i++) {
+            CalculateResponseDTO result = results.get(i);
+            amounts.add(result.getVacationPayAmount());
+            Integer index = messageIndex.get(result.getMessage());
+            if (index == null) {
+                index = messages.size();
+                messages.add(result.getMessage());
+                messageIndex.put(result.getMessage(), index);
+            }
+            messageIndexes[i] = index;
+        }
+        return new CalculateBatchColumnarResponseDTO(results.size(), amounts, messages, messageIndexes);
+    }
+}
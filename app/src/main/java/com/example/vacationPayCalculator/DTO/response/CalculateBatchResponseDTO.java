@@ -0,0 +1,32 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для ответа пакетного расчета в построчном виде.
+ * <p>
+ * Результаты перечислены в порядке элементов запроса. Для элемента с ошибкой
+ * сумма не заполняется, а сообщение содержит причину.
+ * </p>
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "results": [
+ *     { "vacationPayAmount": 23890.78, "message": "Расчет выполнен успешно" },
+ *     { "vacationPayAmount": null, "message": "Отпуск не может быть больше 28 дней" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @see CalculateBatchColumnarResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class CalculateBatchResponseDTO {
+
+    private List<CalculateResponseDTO> results;
+}
@@ -0,0 +1,44 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для ответа с расчетом отпускных по нескольким периодам.
+ * <p>
+ * Содержит результат для каждой части отпуска (в порядке запроса) и итог.
+ * Итоговая сумма рассчитывается по общему количеству оплачиваемых дней,
+ * поэтому может отличаться от суммы округленных частей на несколько копеек.
+ * </p>
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "periods": [
+ *     { "startDate": "2026-06-01", "endDate": "2026-06-14", "paidDays": 13, "vacationPayAmount": 22184.30 },
+ *     { "startDate": "2026-12-21", "endDate": "2026-12-27", "paidDays": 7, "vacationPayAmount": 11945.39 }
+ *   ],
+ *   "totalPaidDays": 20,
+ *   "totalVacationPayAmount": 34129.69,
+ *   "message": "Расчет выполнен успешно"
+ * }
+ * </pre>
+ *
+ * @see PeriodPaymentDTO
+ * @see com.example.vacationPayCalculator.DTO.request.CalculateByPeriodsRequestDTO
+ */
+@AllArgsConstructor
+@Data
+public class CalculateByPeriodsResponseDTO {
+
+    private List<PeriodPaymentDTO> periods;
+
+    private int totalPaidDays;
+
+    private BigDecimal totalVacationPayAmount;
+
+    private String message;
+}
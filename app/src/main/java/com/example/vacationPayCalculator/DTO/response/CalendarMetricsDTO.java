@@ -0,0 +1,32 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) со счетчиками подсчета оплачиваемых дней.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "calendarVersion": "3f1c9a0b7e2d4c51",
+ *   "engineBuilds": 1,
+ *   "paidDayQueries": 1520344
+ * }
+ * </pre>
+ *
+ * <p>{@code engineBuilds} — сколько раз движок строился по списку праздников;
+ * при неизменном календаре значение не растет вместе с {@code paidDayQueries}.</p>
+ *
+ * @see com.example.vacationPayCalculator.service.CalendarService
+ */
+@AllArgsConstructor
+@Data
+public class CalendarMetricsDTO {
+
+    private String calendarVersion;
+
+    private long engineBuilds;
+
+    private long paidDayQueries;
+}
@@ -0,0 +1,38 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) с текущим состоянием ограничителя одновременных расчетов.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "limit": 48,
+ *   "inFlight": 47,
+ *   "queued": 12,
+ *   "accepted": 1520344,
+ *   "shed": 2210
+ * }
+ * </pre>
+ *
+ * <p>{@code accepted} и {@code shed} — накопленные с момента запуска счетчики
+ * принятых и отклоненных с {@code 503} запросов.</p>
+ *
+ * @see com.example.vacationPayCalculator.ratelimit.AdaptiveConcurrencyLimiter
+ */
+@AllArgsConstructor
+@Data
+public class ConcurrencyMetricsDTO {
+
+    private int limit;
+
+    private int inFlight;
+
+    private int queued;
+
+    private long accepted;
+
+    private long shed;
+}
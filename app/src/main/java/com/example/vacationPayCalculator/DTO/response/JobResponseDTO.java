@@ -0,0 +1,66 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import com.example.vacationPayCalculator.job.CalculationJob;
+import com.example.vacationPayCalculator.job.JobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) для ответа с состоянием задачи пакетного перерасчета.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "jobId": "5f0c6a1e-7d2b-4c84-9f0e-2a9b1f4d3c21",
+ *   "status": "RUNNING",
+ *   "totalRows": 250000,
+ *   "processedRows": 120000,
+ *   "failedRows": 12,
+ *   "createdAt": "2026-06-15 14:30:45",
+ *   "updatedAt": "2026-06-15 14:31:10",
+ *   "error": null
+ * }
+ * </pre>
+ *
+ * <p>Значение {@code processedRows} обновляется при сохранении контрольной точки.</p>
+ *
+ * @see CalculationJob
+ */
+@Data
+@AllArgsConstructor
+public class JobResponseDTO {
+
+    private String jobId;
+
+    private JobStatus status;
+
+    private long totalRows;
+
+    private long processedRows;
+
+    private long failedRows;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    private String error;
+
+    public static JobResponseDTO from(CalculationJob job) {
+        return new JobResponseDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getTotalRows(),
+                job.getProcessedRows(),
+                job.getFailedRows(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getError()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) для ответа с таблицей отпускных выплат.
+ * <p>
+ * Содержит суммы отпускных для всех допустимых продолжительностей отпуска
+ * (от 1 до 28 дней) при заданной средней зарплате. Позволяет клиенту получить
+ * все значения одним запросом вместо 28 отдельных вызовов расчета по дням.
+ * </p>
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "averageSalary": 50000,
+ *   "dailyEarnings": 1706.4846416382,
+ *   "vacationPayAmounts": [1706.48, 3412.97, ..., 47781.57]
+ * }
+ * </pre>
+ *
+ * <p>Элемент {@code vacationPayAmounts[i]} соответствует отпуску длительностью {@code i + 1} дней.</p>
+ *
+ * @see CalculateResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class PayTableResponseDTO {
+
+    private BigDecimal averageSalary;
+
+    private BigDecimal dailyEarnings;
+
+    private List<BigDecimal> vacationPayAmounts;
+}
@@ -0,0 +1,25 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) с результатом расчета для одной части отпуска.
+ *
+ * @see CalculateByPeriodsResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class PeriodPaymentDTO {
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private int paidDays;
+
+    private BigDecimal vacationPayAmount;
+}
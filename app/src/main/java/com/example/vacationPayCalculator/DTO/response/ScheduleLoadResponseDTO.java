@@ -0,0 +1,37 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) для ответа на загрузку графика отпусков.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "vacationIntervals": 200000,
+ *   "totalPaidDays": 2790000,
+ *   "totalVacationPayAmount": 4761092150.37,
+ *   "calendarVersion": "2026.1"
+ * }
+ * </pre>
+ *
+ * @see ScheduleSummaryResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class ScheduleLoadResponseDTO {
+
+    private int vacationIntervals;
+
+    private long totalPaidDays;
+
+    private BigDecimal totalVacationPayAmount;
+
+    /**
+     * Версия календаря, по которому рассчитаны оплачиваемые дни интервалов.
+     */
+    private String calendarVersion;
+}
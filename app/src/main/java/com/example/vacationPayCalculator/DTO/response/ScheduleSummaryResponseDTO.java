@@ -0,0 +1,56 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) для ответа с агрегатами графика отпусков за период.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "from": "2026-07-01",
+ *   "to": "2026-07-31",
+ *   "vacationIntervals": 31250,
+ *   "employees": 30980,
+ *   "paidDays": 298400,
+ *   "vacationPayAmount": 509215330.12,
+ *   "intervalVacationPayAmount": 611480020.55,
+ *   "calendarVersion": "2026.1"
+ * }
+ * </pre>
+ *
+ * <p>{@code vacationPayAmount} — отпускные за оплачиваемые дни внутри периода;
+ * {@code intervalVacationPayAmount} — полная стоимость отпусков, пересекающихся с периодом.
+ * Все суммы рассчитаны по календарю {@code calendarVersion}, действующему на момент запроса.
+ * Список {@code employeeIds} возвращается только по запросу.</p>
+ *
+ * @see ScheduleLoadResponseDTO
+ */
+@AllArgsConstructor
+@Data
+public class ScheduleSummaryResponseDTO {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private int vacationIntervals;
+
+    private int employees;
+
+    private long paidDays;
+
+    private BigDecimal vacationPayAmount;
+
+    private BigDecimal intervalVacationPayAmount;
+
+    private String calendarVersion;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private long[] employeeIds;
+}
@@ -0,0 +1,42 @@
+package com.example.vacationPayCalculator.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) с результатами прогрева приложения при запуске.
+ *
+ * <p>Пример ответа:</p>
+ * <pre>
+ * {
+ *   "state": "COMPLETED",
+ *   "durationMillis": 8420,
+ *   "requests": 61873,
+ *   "errors": 0,
+ *   "compilationMillis": 6310,
+ *   "stabilized": true
+ * }
+ * </pre>
+ *
+ * <p>{@code compilationMillis} — время JIT-компиляции за прогрев ({@code -1}, если JVM
+ * его не сообщает); {@code stabilized} — завершился ли прогрев по стабилизации
+ * компиляции, а не по истечении максимальной продолжительности.</p>
+ *
+ * @see com.example.vacationPayCalculator.warmup.WarmupRunner
+ */
+@AllArgsConstructor
+@Data
+public class WarmupMetricsDTO {
+
+    private String state;
+
+    private long durationMillis;
+
+    private long requests;
+
+    private long errors;
+
+    private long compilationMillis;
+
+    private boolean stabilized;
+}
@@ -0,0 +1,80 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки адаптивного ограничения количества одновременно выполняемых расчетов.
+ * <p>
+ * Лимит подстраивается по задержке (AIMD): пока задержка расчета не превышает
+ * {@link #targetLatency}, лимит растет на единицу за «окно» из {@code limit} запросов;
+ * при превышении — умножается на {@link #backoffRatio}. Запросы сверх лимита ждут
+ * в очереди не дольше {@link #maxQueueWait}; при заполненной очереди или истечении
+ * ожидания сразу получают ответ {@code 503} с заголовком {@code Retry-After}.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   concurrency-limit:
+ *     initial-limit: 32
+ *     max-limit: 256
+ *     max-queue-size: 64
+ *     max-queue-wait: 50ms
+ *     target-latency: 100ms
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.ratelimit.AdaptiveConcurrencyLimiter
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    /**
+     * Включено ли ограничение.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Начальный лимит одновременно выполняемых запросов.
+     */
+    private int initialLimit = 32;
+
+    /**
+     * Нижняя граница лимита.
+     */
+    private int minLimit = 4;
+
+    /**
+     * Верхняя граница лимита.
+     */
+    private int maxLimit = 256;
+
+    /**
+     * Максимальное количество запросов, ожидающих освобождения слота.
+     */
+    private int maxQueueSize = 64;
+
+    /**
+     * Максимальное время ожидания слота в очереди.
+     */
+    private Duration maxQueueWait = Duration.ofMillis(50);
+
+    /**
+     * Задержка расчета, превышение которой считается признаком перегрузки.
+     */
+    private Duration targetLatency = Duration.ofMillis(100);
+
+    /**
+     * Коэффициент уменьшения лимита при перегрузке.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Значение заголовка {@code Retry-After} для отклоненных запросов, в секундах.
+     */
+    private long retryAfterSeconds = 1;
+}
@@ -29,6 +29,10 @@ import java.util.List;
  *     - 2023-01-01
  *     - 2023-01-02
  *     - 2023-01-07
+ *
+ * # Или бинарный снимок календаря вместо списка:
+ * vacation:
+ *   snapshot: /etc/vacation/holidays.bin
  * </pre>
  *
  * @see ConfigurationProperties
@@ -49,4 +53,23 @@ public class HolidayConfiguration {
      * {@link org.springframework.boot.context.properties.bind.BindException}.</p>
      */
     private List<LocalDate> holidays = new ArrayList<>();
+
+    /**
+     * Версия производственного календаря.
+     *
+     * <p>Используется для формирования ETag ответов, зависящих от календаря.
+     * Если версия не указана, используется версия из снимка календаря либо
+     * хеш содержимого списка праздников.</p>
+     */
+    private String version;
+
+    /**
+     * Путь к бинарному снимку производственного календаря.
+     *
+     * <p>Если путь указан, праздничные дни читаются из снимка, отображенного в память,
+     * а список {@link #holidays} не используется. Снимок собирается утилитой
+     * {@link com.example.vacationPayCalculator.calendar.HolidaySnapshotTool}
+     * из файлов iCalendar или CSV.</p>
+     */
+    private String snapshot;
 }
@@ -0,0 +1,46 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки HTTP-кеширования результатов расчета.
+ * <p>
+ * Результаты расчета полностью определяются параметрами запроса и версией
+ * производственного календаря, поэтому ответы могут кешироваться браузерами
+ * и CDN. Эти настройки определяют заголовок {@code Cache-Control}.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   http-cache:
+ *     enabled: true
+ *     max-age: 1h
+ *     shared-max-age: 1d
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.controller.CalculationCacheSupport
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.http-cache")
+public class HttpCacheProperties {
+    /**
+     * Включены ли заголовки ETag и Cache-Control и обработка {@code If-None-Match}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Время хранения ответа в кеше клиента ({@code max-age}).
+     */
+    private Duration maxAge = Duration.ofHours(1);
+
+    /**
+     * Время хранения ответа в разделяемых кешах, например CDN ({@code s-maxage}).
+     */
+    private Duration sharedMaxAge = Duration.ofDays(1);
+}
@@ -0,0 +1,63 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки фоновых задач пакетного перерасчета.
+ * <p>
+ * Входные данные, результаты и состояние каждой задачи хранятся в отдельном
+ * каталоге внутри {@link #directory}, поэтому объем памяти не зависит от размера
+ * задачи, а незавершенные задачи продолжаются после перезапуска приложения
+ * с последней контрольной точки. Каталоги завершенных задач удаляются
+ * по истечении {@link #retention}.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   jobs:
+ *     directory: /var/lib/vacation-pay/jobs
+ *     worker-threads: 2
+ *     max-queued-jobs: 100
+ *     checkpoint-interval: 1000
+ *     retention: 7d
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.job.JobService
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.jobs")
+public class JobProperties {
+    /**
+     * Каталог для файлов задач.
+     */
+    private String directory = "data/jobs";
+
+    /**
+     * Количество потоков, одновременно выполняющих задачи.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Максимальное количество задач, ожидающих выполнения. При превышении
+     * новые задачи отклоняются с ответом {@code 429}.
+     */
+    private int maxQueuedJobs = 100;
+
+    /**
+     * Количество строк между сохранениями контрольной точки.
+     */
+    private int checkpointInterval = 1000;
+
+    /**
+     * Срок хранения завершенных задач с момента последнего изменения. По истечении
+     * срока каталог задачи вместе с результатами удаляется. Нулевое значение
+     * отключает удаление.
+     */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,47 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки кеша таблиц отпускных.
+ * <p>
+ * Таблица отпускных содержит суммы для отпуска от 1 до 28 дней при заданной
+ * средней зарплате. Таблицы для перечисленных окладных грейдов рассчитываются
+ * при старте приложения и хранятся постоянно, остальные — кешируются
+ * в пределах {@link #cacheSize} с вытеснением, приближенным к LRU.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   pay-table:
+ *     cache-size: 1024
+ *     grades:
+ *       - 50000
+ *       - 75000
+ *       - 100000
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.service.PayTableCache
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.pay-table")
+public class PayTableProperties {
+    /**
+     * Максимальное количество кешируемых таблиц, не входящих в список грейдов.
+     * Значение {@code 0} отключает кеширование произвольных зарплат.
+     */
+    private int cacheSize = 1024;
+
+    /**
+     * Средние зарплаты (грейды), таблицы для которых рассчитываются заранее.
+     */
+    private List<BigDecimal> grades = new ArrayList<>();
+}
@@ -0,0 +1,98 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки ограничения частоты запросов к API расчета отпускных.
+ * <p>
+ * Клиент определяется по заголовку {@link #clientHeader} (API-ключ),
+ * а при его отсутствии — по IP-адресу. Для каждого клиента заводятся две
+ * независимые корзины токенов: для интерактивных запросов и для пакетных,
+ * поэтому выгрузки расчетчиков не вытесняют запросы HR-интерфейса.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   rate-limit:
+ *     enabled: true
+ *     client-header: X-API-Key
+ *     interactive:
+ *       capacity: 20
+ *       refill-per-second: 10
+ *     bulk:
+ *       capacity: 100
+ *       refill-per-second: 50
+ *     max-bulk-in-flight: 4
+ *     max-tracked-clients: 10000
+ *     eviction-interval: 1s
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.ratelimit.RateLimitInterceptor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.rate-limit")
+public class RateLimitProperties {
+    /**
+     * Включено ли ограничение частоты запросов.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Заголовок, содержащий идентификатор клиента (API-ключ).
+     */
+    private String clientHeader = "X-API-Key";
+
+    /**
+     * Заголовок, в котором клиент указывает приоритет запроса.
+     * Значение {@code bulk} направляет запрос в пакетную очередь.
+     */
+    private String priorityHeader = "X-Request-Priority";
+
+    /**
+     * Лимиты для интерактивных запросов.
+     */
+    private Bucket interactive = new Bucket(20, 10.0);
+
+    /**
+     * Лимиты для пакетных запросов.
+     */
+    private Bucket bulk = new Bucket(100, 50.0);
+
+    /**
+     * Максимальное количество одновременно выполняемых пакетных запросов
+     * по всем клиентам. Остальные потоки сервера остаются свободными
+     * для интерактивных запросов.
+     */
+    private int maxBulkInFlight = 4;
+
+    /**
+     * Максимальное количество клиентов с собственными корзинами в каждой полосе.
+     * При заполнении реестра из него удаляются полностью пополненные (неактивные)
+     * корзины, а новые клиенты до освобождения места делят одну общую корзину.
+     */
+    private int maxTrackedClients = 10_000;
+
+    /**
+     * Минимальный интервал между очистками заполненного реестра от неактивных корзин.
+     */
+    private Duration evictionInterval = Duration.ofSeconds(1);
+
+    /**
+     * Параметры одной корзины токенов.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Настройки трассировки этапов расчета.
+ * <p>
+ * Трассируется доля запросов {@link #sampleRate}; остальные запросы проходят
+ * без трассировки и почти без накладных расходов. Завершенные трассировки
+ * выгружаются в журнал приложения либо, если указан {@link #file},
+ * в файл в формате JSON Lines — внешний коллектор не требуется.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   tracing:
+ *     sample-rate: 0.01
+ *     file: logs/traces.jsonl
+ *     debug-header-enabled: true
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.tracing.TracingFilter
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.tracing")
+public class TracingProperties {
+    /**
+     * Доля трассируемых запросов от 0 до 1. Значение {@code 0} отключает выборку.
+     */
+    private double sampleRate = 0.0;
+
+    /**
+     * Файл для выгрузки трассировок (JSON Lines). Если не указан, трассировки пишутся в журнал.
+     */
+    private String file;
+
+    /**
+     * Разрешен ли отладочный заголовок ответа с разбивкой времени по этапам.
+     */
+    private boolean debugHeaderEnabled = false;
+
+    /**
+     * Заголовок запроса, значение {@code true} которого включает отладочную разбивку.
+     */
+    private String debugRequestHeader = "X-Debug-Timing";
+
+    /**
+     * Заголовок ответа с разбивкой времени по этапам в наносекундах.
+     */
+    private String timingResponseHeader = "X-Calculation-Timing";
+}
@@ -0,0 +1,70 @@
+package com.example.vacationPayCalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки прогрева приложения при запуске.
+ * <p>
+ * До открытия приема трафика приложение отправляет само себе синтетические
+ * запросы расчета, пока JIT-компилятор не перестанет компилировать новые методы:
+ * прирост суммарного времени компиляции за {@link #checkInterval} должен
+ * {@link #stableIntervals} раз подряд не превысить {@link #stableCompilationTime}.
+ * Прогрев в любом случае завершается по истечении {@link #maxDuration}.
+ * </p>
+ *
+ * <p>Пример настройки в application.yml:</p>
+ * <pre>
+ * vacation:
+ *   warmup:
+ *     enabled: true
+ *     max-duration: 30s
+ *     check-interval: 1s
+ *     stable-intervals: 3
+ *     stable-compilation-time: 20ms
+ *     threads: 2
+ * </pre>
+ *
+ * @see com.example.vacationPayCalculator.warmup.WarmupRunner
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vacation.warmup")
+public class WarmupProperties {
+    /**
+     * Включен ли прогрев.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Максимальная продолжительность прогрева.
+     */
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    /**
+     * Интервал, за который измеряется прирост времени JIT-компиляции.
+     */
+    private Duration checkInterval = Duration.ofSeconds(1);
+
+    /**
+     * Количество подряд идущих интервалов без заметной компиляции,
+     * после которого компиляция считается стабилизировавшейся.
+     */
+    private int stableIntervals = 3;
+
+    /**
+     * Прирост времени JIT-компиляции за интервал, не превышающий которого
+     * интервал считается стабильным. Время суммируется по всем потокам компилятора
+     * и добавляется по завершении компиляции метода, поэтому одна крупная компиляция
+     * C2 дает всплеск и сбрасывает счет стабильных интервалов.
+     */
+    private Duration stableCompilationTime = Duration.ofMillis(20);
+
+    /**
+     * Количество потоков, одновременно отправляющих запросы прогрева.
+     */
+    private int threads = 2;
+}
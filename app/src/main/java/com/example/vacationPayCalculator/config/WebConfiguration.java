@@ -0,0 +1,60 @@
+package com.example.vacationPayCalculator.config;
+
+import com.example.vacationPayCalculator.ratelimit.ConcurrencyLimitInterceptor;
+import com.example.vacationPayCalculator.ratelimit.RateLimitInterceptor;
+import com.example.vacationPayCalculator.tracing.TracingInterceptor;
+import com.example.vacationPayCalculator.tracing.TracingValidator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Конфигурация Spring MVC.
+ * <p>
+ * Регистрирует перехватчики, применяемые к API расчета отпускных, и валидатор
+ * {@code @Valid}, размечающий Bean Validation для трассировки.
+ * </p>
+ *
+ * <p>Пакетный расчет {@code /batch} не проходит через адаптивный ограничитель
+ * одновременности: его время растет с числом элементов, и общая целевая задержка
+ * занижала бы лимит для интерактивных запросов. Одновременные пакетные запросы
+ * ограничиваются слотами {@code max-bulk-in-flight}.</p>
+ *
+ * @see RateLimitInterceptor
+ * @see ConcurrencyLimitInterceptor
+ * @see TracingInterceptor
+ * @see TracingValidator
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final TracingInterceptor tracingInterceptor;
+    private final jakarta.validation.Validator beanValidator;
+
+    public WebConfiguration(RateLimitInterceptor rateLimitInterceptor,
+                            ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                            TracingInterceptor tracingInterceptor,
+                            jakarta.validation.Validator beanValidator) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.tracingInterceptor = tracingInterceptor;
+        this.beanValidator = beanValidator;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/v1/calculate/**");
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/v1/calculate/**")
+                .excludePathPatterns("/api/v1/calculate/batch");
+        registry.addInterceptor(tracingInterceptor).addPathPatterns("/api/v1/**");
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TracingValidator(new SpringValidatorAdapter(beanValidator));
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.vacationPayCalculator.controller;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateBatchRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDatesRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByPeriodsRequestDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateBatchColumnarResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateBatchResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateByPeriodsResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.PayTableResponseDTO;
+import com.example.vacationPayCalculator.service.VacationPaymentService;
+import com.example.vacationPayCalculator.tracing.CalculationTracer;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Контроллер для расчета отпускных выплат.
+ * Предоставляет REST API для вычисления суммы отпускных на основе разных входных данных.
+ *
+ * <p>Контроллер обрабатывает следующие типы запросов:</p>
+ * <ul>
+ *   <li>Расчет по количеству дней отпуска</li>
+ *   <li>Таблица отпускных для всех допустимых количеств дней</li>
+ *   <li>Расчет по конкретным датам начала и окончания отпуска</li>
+ *   <li>Расчет по нескольким периодам отпуска в одном запросе</li>
+ *   <li>Пакетный расчет множества независимых элементов</li>
+ * </ul>
+ *
+ * <p>Все методы возвращают ответ в формате JSON с рассчитанной суммой отпускных.</p>
+ *
+ * <p>Результаты расчета зависят только от параметров запроса и версии календаря,
+ * поэтому ответы содержат заголовки {@code ETag} и {@code Cache-Control}, а запросы
+ * с совпадающим {@code If-None-Match} получают {@code 304 Not Modified} без расчета.</p>
+ *
+ * @see VacationPaymentService
+ * @see CalculateResponseDTO
+ * @see CalculationCacheSupport
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/calculate")
+public class CalculateController {
+    private VacationPaymentService vacationPaymentService;
+    private CalculationCacheSupport cacheSupport;
+
+    public CalculateController(VacationPaymentService vacationPaymentService,
+                               CalculationCacheSupport cacheSupport) {
+        this.vacationPaymentService = vacationPaymentService;
+        this.cacheSupport = cacheSupport;
+    }
+
+    /**
+     * Расчет отпускных выплат на основе количества дней отпуска.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/calculate/days?averageSalary=50000&numberOfVacationDays=14}</p>
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев (в рублях)
+     * @param numberOfVacationDays количество дней отпуска
+     * @param webRequest текущий запрос (для проверки {@code If-None-Match})
+     * @return ResponseEntity с результатом расчета, 304 при совпадении ETag или сообщением об ошибке
+     *
+     * @throws IllegalArgumentException если параметры недопустимы (отрицательные значения и т.д.)
+     *
+     * @see CalculateByDaysRequestDTO
+     * @see CalculateResponseDTO
+     */
+    @GetMapping("/days")
+    public ResponseEntity<CalculateResponseDTO> calculateVacationPayWithsNumberOfDays(
+            @RequestParam BigDecimal averageSalary,
+            @RequestParam int numberOfVacationDays,
+            WebRequest webRequest) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            CalculateByDaysRequestDTO request = new CalculateByDaysRequestDTO(averageSalary, numberOfVacationDays);
+            return cacheSupport.respondForDays(webRequest, averageSalary, numberOfVacationDays,
+                    () -> vacationPaymentService.calculatePaymentWithNumberOfDays(request));
+        }
+    }
+
+    /**
+     * Таблица отпускных выплат для отпуска от 1 до 28 дней.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/calculate/days/table?averageSalary=50000}</p>
+     *
+     * <p>Возвращает все суммы одним ответом, что заменяет до 28 вызовов
+     * {@code /days} (например, для слайдера в интерфейсе или сетки грейдов).</p>
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев (в рублях)
+     * @param webRequest текущий запрос (для проверки {@code If-None-Match})
+     * @return ResponseEntity с таблицей отпускных, 304 при совпадении ETag или сообщением об ошибке
+     *
+     * @see PayTableResponseDTO
+     */
+    @GetMapping("/days/table")
+    public ResponseEntity<PayTableResponseDTO> calculatePayTable(
+            @RequestParam BigDecimal averageSalary,
+            WebRequest webRequest) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            return cacheSupport.respondForPayTable(webRequest, averageSalary,
+                    () -> vacationPaymentService.calculatePayTable(averageSalary));
+        }
+    }
+
+    /**
+     * Расчет отпускных выплат на основе дат начала и окончания отпуска.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/calculate/dates?averageSalary=50000&startDate=2023-06-01&endDate=2023-06-14}</p>
+     *
+     * <p>При расчете учитываются праздничные дни, которые исключаются из общего количества дней отпуска.</p>
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев (в рублях)
+     * @param startDate дата начала отпуска (включительно)
+     * @param endDate дата окончания отпуска (включительно)
+     * @param webRequest текущий запрос (для проверки {@code If-None-Match})
+     * @return ResponseEntity с результатом расчета, 304 при совпадении ETag или сообщением об ошибке
+     *
+     * @throws IllegalArgumentException если параметры недопустимы (некорректные даты и т.д.)
+     *
+     * @see CalculateByDatesRequestDTO
+     * @see CalculateResponseDTO
+     */
+    @GetMapping("/dates")
+    public ResponseEntity<CalculateResponseDTO> calculateVacationPayWithDates(
+            @RequestParam BigDecimal averageSalary,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            WebRequest webRequest) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            CalculateByDatesRequestDTO request = new CalculateByDatesRequestDTO(averageSalary, startDate, endDate);
+            return cacheSupport.respondForDates(webRequest, averageSalary, startDate, endDate,
+                    () -> vacationPaymentService.calculatePaymentWithDates(request));
+        }
+    }
+
+    /**
+     * Расчет отпускных выплат для отпуска, разделенного на несколько периодов.
+     *
+     * <p>Пример запроса: {@code POST /api/v1/calculate/periods} с телом
+     * {@code {"averageSalary": 50000, "periods": [{"startDate": "2026-06-01", "endDate": "2026-06-14"}]}}</p>
+     *
+     * <p>Заменяет несколько вызовов {@code /dates}: пересечение периодов и общий лимит
+     * в 28 оплачиваемых дней проверяются на сервере.</p>
+     *
+     * @param request средняя зарплата и список периодов отпуска
+     * @return ResponseEntity с суммами по периодам и итоговой суммой или сообщением об ошибке
+     *
+     * @see CalculateByPeriodsRequestDTO
+     * @see CalculateByPeriodsResponseDTO
+     */
+    @PostMapping("/periods")
+    public ResponseEntity<CalculateByPeriodsResponseDTO> calculateVacationPayWithPeriods(
+            @Valid @RequestBody CalculateByPeriodsRequestDTO request) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            CalculateByPeriodsResponseDTO response = vacationPaymentService.calculatePaymentWithPeriods(request);
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * Пакетный расчет отпускных выплат.
+     *
+     * <p>Пример запроса: {@code POST /api/v1/calculate/batch} с телом
+     * {@code {"items": [{"averageSalary": 50000, "numberOfVacationDays": 14}]}}</p>
+     *
+     * <p>Элемент с некорректными параметрами не отклоняет пакет: в его результате
+     * вместо суммы возвращается сообщение об ошибке.</p>
+     *
+     * @param request элементы пакета
+     * @return ResponseEntity с результатами в порядке элементов запроса
+     *
+     * @see CalculateBatchRequestDTO
+     * @see CalculateBatchResponseDTO
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CalculateBatchResponseDTO> calculateBatch(
+            @Valid @RequestBody CalculateBatchRequestDTO request) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            return ResponseEntity.ok(new CalculateBatchResponseDTO(
+                    vacationPaymentService.calculateBatch(request.getItems())));
+        }
+    }
+
+    /**
+     * Пакетный расчет отпускных выплат с ответом в колоночном виде.
+     *
+     * <p>Пример запроса: {@code POST /api/v1/calculate/batch?format=columnar}</p>
+     *
+     * <p>Суммы передаются одним массивом, а повторяющиеся сообщения — словарем,
+     * что сокращает размер ответа для больших пакетов.</p>
+     *
+     * @param request элементы пакета
+     * @return ResponseEntity с результатами в колоночном виде
+     *
+     * @see CalculateBatchColumnarResponseDTO
+     */
+    @PostMapping(value = "/batch", params = "format=columnar")
+    public ResponseEntity<CalculateBatchColumnarResponseDTO> calculateBatchColumnar(
+            @Valid @RequestBody CalculateBatchRequestDTO request) {
+
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            return ResponseEntity.ok(CalculateBatchColumnarResponseDTO.from(
+                    vacationPaymentService.calculateBatch(request.getItems())));
+        }
+    }
+}
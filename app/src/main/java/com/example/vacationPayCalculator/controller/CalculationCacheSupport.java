@@ -0,0 +1,164 @@
+package com.example.vacationPayCalculator.controller;
+
+import com.example.vacationPayCalculator.config.HttpCacheProperties;
+import com.example.vacationPayCalculator.service.CalendarService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Поддержка HTTP-кеширования для {@link CalculateController}.
+ * <p>
+ * Формирует сильные ETag на основе нормализованных параметров запроса и,
+ * для расчетов по датам, версии производственного календаря. Если значение
+ * заголовка {@code If-None-Match} совпадает с ETag, возвращается ответ
+ * {@code 304 Not Modified} без выполнения расчета.
+ * </p>
+ *
+ * <p>Зарплата нормализуется ({@code 50000} и {@code 50000.00} дают один ETag),
+ * поскольку результат расчета от формы записи числа не зависит.</p>
+ *
+ * @see HttpCacheProperties
+ * @see CalendarService#getCalendarVersion()
+ */
+@Component
+public class CalculationCacheSupport {
+    private final HttpCacheProperties properties;
+    private final CalendarService calendarService;
+
+    public CalculationCacheSupport(HttpCacheProperties properties, CalendarService calendarService) {
+        this.properties = properties;
+        this.calendarService = calendarService;
+    }
+
+    /**
+     * Возвращает ответ для расчета по количеству дней с учетом условного запроса.
+     * Результат не зависит от календаря, поэтому его версия в ETag не входит.
+     *
+     * @param webRequest текущий запрос
+     * @param averageSalary средняя зарплата
+     * @param numberOfVacationDays количество дней отпуска
+     * @param calculation расчет, выполняемый только при отсутствии совпадения ETag
+     * @return ответ 200 с телом и заголовками кеширования либо 304 без тела
+     */
+    public <T> ResponseEntity<T> respondForDays(WebRequest webRequest, BigDecimal averageSalary,
+                                                int numberOfVacationDays, Supplier<T> calculation) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.ok(calculation.get());
+        }
+        String eTag = eTag("days", normalize(averageSalary), String.valueOf(numberOfVacationDays));
+        return respond(webRequest, eTag, calculation);
+    }
+
+    /**
+     * Возвращает ответ с таблицей отпускных с учетом условного запроса.
+     * Таблица не зависит от календаря, поэтому его версия в ETag не входит.
+     *
+     * @param webRequest текущий запрос
+     * @param averageSalary средняя зарплата
+     * @param calculation расчет, выполняемый только при отсутствии совпадения ETag
+     * @return ответ 200 с телом и заголовками кеширования либо 304 без тела
+     */
+    public <T> ResponseEntity<T> respondForPayTable(WebRequest webRequest, BigDecimal averageSalary,
+                                                    Supplier<T> calculation) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.ok(calculation.get());
+        }
+        String eTag = eTag("table", normalize(averageSalary));
+        return respond(webRequest, eTag, calculation);
+    }
+
+    /**
+     * Возвращает ответ для расчета по датам с учетом условного запроса.
+     *
+     * @param webRequest текущий запрос
+     * @param averageSalary средняя зарплата
+     * @param startDate дата начала отпуска
+     * @param endDate дата окончания отпуска
+     * @param calculation расчет, выполняемый только при отсутствии совпадения ETag
+     * @return ответ 200 с телом и заголовками кеширования либо 304 без тела
+     */
+    public <T> ResponseEntity<T> respondForDates(WebRequest webRequest, BigDecimal averageSalary,
+                                                 LocalDate startDate, LocalDate endDate,
+                                                 Supplier<T> calculation) {
+        if (!properties.isEnabled()) {
+            return ResponseEntity.ok(calculation.get());
+        }
+        String eTag = eTag("dates", normalize(averageSalary), String.valueOf(startDate),
+                String.valueOf(endDate), calendarService.getCalendarVersion());
+        return respond(webRequest, eTag, calculation);
+    }
+
+    private <T> ResponseEntity<T> respond(WebRequest webRequest, String eTag, Supplier<T> calculation) {
+        CacheControl cacheControl = CacheControl.maxAge(properties.getMaxAge())
+                .sMaxAge(properties.getSharedMaxAge())
+                .cachePublic();
+
+        if (matchesIfNoneMatch(webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(calculation.get());
+    }
+
+    /**
+     * Проверяет заголовки {@code If-None-Match} по правилам RFC 9110 со слабым сравнением.
+     * <p>
+     * Значение {@code *} не учитывается. ETag запроса формируется до валидации параметров,
+     * поэтому {@code *} давал бы {@code 304} и на некорректный запрос вместо {@code 400}.
+     * Конкретный ETag клиент мог получить только в успешном ответе, то есть для корректных
+     * параметров, а для расчета по GET значение {@code *} не имеет смысла.
+     * </p>
+     */
+    static boolean matchesIfNoneMatch(String[] headerValues, String eTag) {
+        if (headerValues == null) {
+            return false;
+        }
+        for (String headerValue : headerValues) {
+            for (String candidate : headerValue.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(eTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(BigDecimal value) {
+        return value == null ? "null" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private static String eTag(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '|');
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Алгоритм SHA-256 недоступен", e);
+        }
+    }
+}
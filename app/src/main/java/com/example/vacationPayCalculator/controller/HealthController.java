@@ -0,0 +1,58 @@
+package com.example.vacationPayCalculator.controller;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер проб живости и готовности для оркестратора (например, Kubernetes).
+ * <p>
+ * Состояния берутся из {@link ApplicationAvailability} Spring Boot. Готовность
+ * переходит в {@link ReadinessState#ACCEPTING_TRAFFIC} только после завершения
+ * всех раннеров, в том числе прогрева
+ * ({@link com.example.vacationPayCalculator.warmup.WarmupRunner}).
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/health")
+public class HealthController {
+    private final ApplicationAvailability availability;
+
+    public HealthController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
+    /**
+     * Проба живости.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/health/liveness}</p>
+     *
+     * @return {@code 200} с состоянием {@code CORRECT} либо {@code 503} с {@code BROKEN}
+     */
+    @GetMapping("/liveness")
+    public ResponseEntity<String> getLiveness() {
+        LivenessState state = availability.getLivenessState();
+        HttpStatus status = state == LivenessState.CORRECT ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(state.name());
+    }
+
+    /**
+     * Проба готовности.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/health/readiness}</p>
+     *
+     * @return {@code 200} с состоянием {@code ACCEPTING_TRAFFIC} либо {@code 503}
+     *         с {@code REFUSING_TRAFFIC} (в том числе на время прогрева)
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<String> getReadiness() {
+        ReadinessState state = availability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(state.name());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.vacationPayCalculator.controller;
+
+import com.example.vacationPayCalculator.DTO.response.JobResponseDTO;
+import com.example.vacationPayCalculator.job.CalculationJob;
+import com.example.vacationPayCalculator.job.JobService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Контроллер фоновых задач пакетного перерасчета отпускных.
+ * <p>
+ * Используется для объемов, которые не укладываются в таймаут одного HTTP-запроса:
+ * клиент загружает CSV-файл, получает идентификатор задачи, опрашивает ее состояние
+ * и скачивает результаты после завершения.
+ * </p>
+ *
+ * <p>Пример использования:</p>
+ * <pre>
+ * curl -F file=@salaries.csv http://localhost:8080/api/v1/jobs
+ * curl http://localhost:8080/api/v1/jobs/{jobId}
+ * curl -o results.csv http://localhost:8080/api/v1/jobs/{jobId}/results
+ * </pre>
+ *
+ * @see JobService
+ * @see JobResponseDTO
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final JobService jobService;
+
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /**
+     * Создает задачу пакетного перерасчета.
+     *
+     * @param file CSV-файл со строками {@code averageSalary,numberOfVacationDays}
+     *             или {@code averageSalary,startDate,endDate}
+     * @return {@code 202 Accepted} с состоянием задачи и заголовком {@code Location}
+     * @throws IOException если файл не удалось сохранить
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<JobResponseDTO> submitJob(@RequestParam("file") MultipartFile file) throws IOException {
+        CalculationJob job;
+        try (InputStream upload = file.getInputStream()) {
+            job = jobService.submit(upload);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/jobs/" + job.getId()))
+                .body(JobResponseDTO.from(job));
+    }
+
+    /**
+     * Возвращает состояние и прогресс задачи.
+     *
+     * @param jobId идентификатор задачи
+     * @return состояние задачи или {@code 404}, если задача не найдена
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobResponseDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(JobResponseDTO.from(jobService.getJob(jobId)));
+    }
+
+    /**
+     * Возвращает файл результатов завершенной задачи.
+     *
+     * @param jobId идентификатор задачи
+     * @return CSV-файл {@code row,status,vacationPayAmount,message}
+     */
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<Resource> getResults(@PathVariable String jobId) {
+        Resource results = new FileSystemResource(jobService.getResultFile(jobId));
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(jobId + ".csv").build().toString())
+                .body(results);
+    }
+}
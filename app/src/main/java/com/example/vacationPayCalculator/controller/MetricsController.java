@@ -0,0 +1,91 @@
+package com.example.vacationPayCalculator.controller;
+
+import com.example.vacationPayCalculator.DTO.response.CalendarMetricsDTO;
+import com.example.vacationPayCalculator.DTO.response.ConcurrencyMetricsDTO;
+import com.example.vacationPayCalculator.DTO.response.WarmupMetricsDTO;
+import com.example.vacationPayCalculator.ratelimit.AdaptiveConcurrencyLimiter;
+import com.example.vacationPayCalculator.service.CalendarService;
+import com.example.vacationPayCalculator.warmup.WarmupRunner;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер служебных метрик приложения.
+ * <p>
+ * Метрики отдаются в JSON и предназначены для панелей мониторинга
+ * и нагрузочного тестирования.
+ * </p>
+ *
+ * @see ConcurrencyMetricsDTO
+ * @see CalendarMetricsDTO
+ * @see WarmupMetricsDTO
+ */
+@RestController
+@RequestMapping("/api/v1/metrics")
+public class MetricsController {
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final CalendarService calendarService;
+    private final WarmupRunner warmupRunner;
+
+    public MetricsController(AdaptiveConcurrencyLimiter concurrencyLimiter, CalendarService calendarService,
+                             WarmupRunner warmupRunner) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.calendarService = calendarService;
+        this.warmupRunner = warmupRunner;
+    }
+
+    /**
+     * Возвращает состояние ограничителя одновременных расчетов.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/metrics/concurrency}</p>
+     *
+     * @return текущий лимит, выполняемые и ожидающие запросы, счетчики принятых и отклоненных
+     */
+    @GetMapping("/concurrency")
+    public ResponseEntity<ConcurrencyMetricsDTO> getConcurrencyMetrics() {
+        return ResponseEntity.ok(new ConcurrencyMetricsDTO(
+                concurrencyLimiter.getLimit(),
+                concurrencyLimiter.getInFlight(),
+                concurrencyLimiter.getQueued(),
+                concurrencyLimiter.getAccepted(),
+                concurrencyLimiter.getShed()
+        ));
+    }
+
+    /**
+     * Возвращает счетчики подсчета оплачиваемых дней.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/metrics/calendar}</p>
+     *
+     * @return версия календаря, количество построений движка и количество подсчитанных периодов
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarMetricsDTO> getCalendarMetrics() {
+        return ResponseEntity.ok(new CalendarMetricsDTO(
+                calendarService.getCalendarVersion(),
+                calendarService.getEngineBuilds(),
+                calendarService.getPaidDayQueries()
+        ));
+    }
+
+    /**
+     * Возвращает результаты прогрева приложения при запуске.
+     *
+     * <p>Пример запроса: {@code GET /api/v1/metrics/warmup}</p>
+     *
+     * @return состояние и продолжительность прогрева, количество запросов и время JIT-компиляции
+     */
+    @GetMapping("/warmup")
+    public ResponseEntity<WarmupMetricsDTO> getWarmupMetrics() {
+        return ResponseEntity.ok(new WarmupMetricsDTO(
+                warmupRunner.getState().name(),
+                warmupRunner.getDurationMillis(),
+                warmupRunner.getRequests(),
+                warmupRunner.getErrors(),
+                warmupRunner.getCompilationMillis(),
+                warmupRunner.isStabilized()
+        ));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.vacationPayCalculator.controller;
+
+import com.example.vacationPayCalculator.DTO.request.ScheduleLoadRequestDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleLoadResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleSummaryResponseDTO;
+import com.example.vacationPayCalculator.schedule.VacationScheduleStore;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Контроллер графика отпусков для планирования.
+ * <p>
+ * Заменяет вызовы {@code /api/v1/calculate/dates} по каждому сотруднику одним
+ * запросом агрегатов по периоду.
+ * </p>
+ *
+ * <p>Пример использования:</p>
+ * <pre>
+ * PUT /api/v1/schedules  {"entries": [{"employeeId": 1, "averageSalary": 50000, "startDate": "2026-07-06", "endDate": "2026-07-19"}]}
+ * GET /api/v1/schedules/summary?from=2026-07-01&amp;to=2026-07-31
+ * </pre>
+ *
+ * @see VacationScheduleStore
+ */
+@RestController
+@RequestMapping("/api/v1/schedules")
+public class ScheduleController {
+    private final VacationScheduleStore scheduleStore;
+
+    public ScheduleController(VacationScheduleStore scheduleStore) {
+        this.scheduleStore = scheduleStore;
+    }
+
+    /**
+     * Загружает график отпусков, заменяя предыдущий.
+     *
+     * @param request интервалы отпусков сотрудников
+     * @return итоги загруженного графика или сообщение об ошибке
+     */
+    @PutMapping
+    public ResponseEntity<ScheduleLoadResponseDTO> loadSchedule(@Valid @RequestBody ScheduleLoadRequestDTO request) {
+        return ResponseEntity.ok(scheduleStore.load(request.getEntries()));
+    }
+
+    /**
+     * Возвращает агрегаты отпусков, пересекающихся с периодом.
+     *
+     * @param from первый день периода (включительно)
+     * @param to последний день периода (включительно)
+     * @param includeEmployees включить ли идентификаторы сотрудников в ответ
+     * @return количество интервалов и сотрудников, оплачиваемые дни и отпускные за период
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ScheduleSummaryResponseDTO> summarize(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(defaultValue = "false") boolean includeEmployees) {
+
+        return ResponseEntity.ok(scheduleStore.summarize(from, to, includeEmployees));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.vacationPayCalculator.exception;
+
+import com.example.vacationPayCalculator.DTO.response.ErrorResponseDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Глобальный обработчик исключений для приложения VacationPayCalculator.
+ * <p>
+ * Этот класс перехватывает исключения, возникающие в контроллерах,
+ * и преобразует их в стандартизированные ответы об ошибках.
+ * Обеспечивает централизованную обработку исключений для всего приложения.
+ * </p>
+ *
+ * <p>Обрабатывает следующие типы исключений:</p>
+ * <ul>
+ *   <li>{@link MethodArgumentNotValidException} - ошибки валидации входных параметров</li>
+ *   <li>{@link VacationCalculationException} - ошибки при расчете отпускных</li>
+ *   <li>{@link TooManyRequestsException} - превышение лимита частоты запросов</li>
+ *   <li>{@link ServiceOverloadedException} - перегрузка сервиса</li>
+ *   <li>{@link JobNotFoundException} - обращение к несуществующей задаче перерасчета</li>
+ *   <li>{@link JobNotFinishedException} - запрос результатов незавершенной задачи</li>
+ * </ul>
+ *
+ * @see ControllerAdvice
+ * @see ExceptionHandler
+ * @see ErrorResponseDTO
+ */
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Обрабатывает исключения валидации входных параметров.
+     * <p>
+     * Возникает при нарушении ограничений, заданных аннотациями валидации
+     * в DTO-классах ({@link jakarta.validation.constraints}).
+     * </p>
+     *
+     * @param ex исключение валидации
+     * @param request текущий веб-запрос
+     * @return ResponseEntity с деталями ошибки валидации
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponseDTO> handleValidationException(
+            MethodArgumentNotValidException ex, WebRequest request) {
+
+        String errorMessage = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ":" + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "ValidationFailed",
+                errorMessage,
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Обрабатывает исключения, возникающие при расчете отпускных выплат.
+     * <p>
+     * Возникает при обнаружении бизнес-логических ошибок в процессе расчета,
+     * таких как некорректные даты, недопустимые значения и т.д.
+     * </p>
+     *
+     * @param ex исключение расчета отпускных
+     * @param request текущий веб-запрос
+     * @return ResponseEntity с деталями ошибки расчета
+     */
+    @ExceptionHandler(VacationCalculationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVacationCalculationException(
+            VacationCalculationException ex, WebRequest request) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Vacation Calculation Error",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Обрабатывает превышение клиентом допустимой частоты запросов.
+     * <p>
+     * Возвращает статус {@code 429 Too Many Requests} и заголовок {@code Retry-After}
+     * с количеством секунд, через которое запрос будет принят.
+     * </p>
+     *
+     * @param ex исключение превышения лимита
+     * @param request текущий веб-запрос
+     * @return ResponseEntity с деталями ошибки и подсказкой для повтора
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDTO> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponseDTO);
+    }
+
+    /**
+     * Обрабатывает отклонение запроса из-за перегрузки сервиса.
+     * <p>
+     * Возвращает статус {@code 503 Service Unavailable} и заголовок {@code Retry-After},
+     * чтобы клиент повторил запрос позже, а не удерживал соединение в очереди.
+     * </p>
+     *
+     * @param ex исключение перегрузки
+     * @param request текущий веб-запрос
+     * @return ResponseEntity с деталями ошибки и подсказкой для повтора
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponseDTO);
+    }
+
+    /**
+     * Обрабатывает обращение к несуществующей задаче перерасчета.
+     *
+     * @param ex исключение отсутствия задачи
+     * @param request текущий веб-запрос
+     * @return ResponseEntity со статусом {@code 404 Not Found}
+     */
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleJobNotFoundException(
+            JobNotFoundException ex, WebRequest request) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.NOT_FOUND.value(),
+                "Job Not Found",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Обрабатывает запрос результатов задачи перерасчета, которая еще не завершена.
+     * <p>
+     * Состояние задачи клиент получает запросом {@code GET /api/v1/jobs/{jobId}}.
+     * </p>
+     *
+     * @param ex исключение незавершенной задачи
+     * @param request текущий веб-запрос
+     * @return ResponseEntity со статусом {@code 409 Conflict}
+     */
+    @ExceptionHandler(JobNotFinishedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleJobNotFinishedException(
+            JobNotFinishedException ex, WebRequest request) {
+        ErrorResponseDTO errorResponseDTO = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Job Not Finished",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.CONFLICT);
+    }
+}
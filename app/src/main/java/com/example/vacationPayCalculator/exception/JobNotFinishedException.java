@@ -0,0 +1,12 @@
+package com.example.vacationPayCalculator.exception;
+
+/**
+ * Исключение, сигнализирующее о запросе результатов задачи перерасчета,
+ * которая еще не завершена или завершилась ошибкой.
+ * Преобразуется в ответ {@code 409 Conflict}.
+ */
+public class JobNotFinishedException extends RuntimeException {
+    public JobNotFinishedException(String message) {
+        super(message);
+    }
+}
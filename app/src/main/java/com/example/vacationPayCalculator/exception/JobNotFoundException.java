@@ -0,0 +1,11 @@
+package com.example.vacationPayCalculator.exception;
+
+/**
+ * Исключение, сигнализирующее об обращении к несуществующей задаче перерасчета.
+ * Преобразуется в ответ {@code 404 Not Found}.
+ */
+public class JobNotFoundException extends RuntimeException {
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
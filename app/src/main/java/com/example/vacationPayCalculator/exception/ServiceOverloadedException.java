@@ -0,0 +1,19 @@
+package com.example.vacationPayCalculator.exception;
+
+/**
+ * Исключение, сигнализирующее о перегрузке сервиса: слот выполнения не получен
+ * за допустимое время. Преобразуется в ответ {@code 503 Service Unavailable}
+ * с заголовком {@code Retry-After}.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
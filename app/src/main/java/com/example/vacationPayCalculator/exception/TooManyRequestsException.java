@@ -0,0 +1,18 @@
+package com.example.vacationPayCalculator.exception;
+
+/**
+ * Исключение, сигнализирующее о превышении клиентом допустимой частоты запросов.
+ * Преобразуется в ответ {@code 429 Too Many Requests} с заголовком {@code Retry-After}.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.vacationPayCalculator.job;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Состояние задачи пакетного перерасчета, сохраняемое на диск.
+ * <p>
+ * Поля {@link #processedRows} и {@link #resultBytes} образуют контрольную точку:
+ * при возобновлении файл результатов усекается до {@link #resultBytes},
+ * а первые {@link #processedRows} строк входного файла пропускаются.
+ * </p>
+ *
+ * @see JobStore
+ */
+@Data
+@NoArgsConstructor
+public class CalculationJob {
+    private String id;
+    private JobStatus status;
+
+    /**
+     * Количество строк с данными во входном файле.
+     */
+    private long totalRows;
+
+    /**
+     * Количество обработанных строк на момент последней контрольной точки.
+     */
+    private long processedRows;
+
+    /**
+     * Количество строк, расчет по которым завершился ошибкой.
+     */
+    private long failedRows;
+
+    /**
+     * Размер файла результатов на момент последней контрольной точки.
+     */
+    private long resultBytes;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Причина сбоя для задач в состоянии {@link JobStatus#FAILED}.
+     */
+    private String error;
+}
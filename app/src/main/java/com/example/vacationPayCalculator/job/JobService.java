@@ -0,0 +1,369 @@
+package com.example.vacationPayCalculator.job;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateByDatesRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.config.JobProperties;
+import com.example.vacationPayCalculator.exception.JobNotFinishedException;
+import com.example.vacationPayCalculator.exception.JobNotFoundException;
+import com.example.vacationPayCalculator.exception.TooManyRequestsException;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.service.VacationPaymentService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Сервис фоновых задач пакетного перерасчета отпускных.
+ * <p>
+ * Задача принимает CSV-файл, каждая строка которого — отдельный расчет:
+ * </p>
+ * <pre>
+ * averageSalary,numberOfVacationDays
+ * 50000,14
+ * 75000,2026-06-01,2026-06-14
+ * </pre>
+ * <p>
+ * Строка из двух колонок рассчитывается по количеству дней, из трех — по датам
+ * отпуска. Расчет выполняется через {@link VacationPaymentService}, результаты
+ * дописываются в файл в формате {@code row,status,vacationPayAmount,message}.
+ * Ошибка в отдельной строке не прерывает задачу, а записывается в результат.
+ * </p>
+ *
+ * <p>Задачи выполняются фиксированным пулом потоков; в памяти очереди хранятся
+ * только идентификаторы, а данные и результаты — в файлах {@link JobStore}.
+ * Каждые {@link JobProperties#getCheckpointInterval()} строк сохраняется контрольная
+ * точка, и при следующем запуске приложения незавершенные задачи продолжаются с нее.</p>
+ *
+ * <p>Очередь пула ограничена {@link JobProperties#getMaxQueuedJobs()}: постановка
+ * в заполненную очередь атомарно отклоняется пулом, и клиент получает
+ * {@code 429 Too Many Requests}. Возобновляемые после перезапуска задачи
+ * ставятся в ту же очередь отдельным потоком с ожиданием свободного места,
+ * поэтому тоже не превышают ограничение.</p>
+ *
+ * <p>Завершенные задачи хранятся {@link JobProperties#getRetention()} с момента
+ * последнего изменения, после чего их каталоги удаляются фоновой очисткой.</p>
+ *
+ * @see JobStore
+ * @see JobProperties
+ */
+@Slf4j
+@Service
+public class JobService {
+    static final String RESULT_HEADER = "row,status,vacationPayAmount,message";
+    private static final long CLEANUP_INTERVAL_MINUTES = 60;
+
+    private final JobStore store;
+    private final VacationPaymentService vacationPaymentService;
+    private final JobProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner;
+    private volatile Thread resumer;
+
+    public JobService(JobStore store, VacationPaymentService vacationPaymentService, JobProperties properties) {
+        this.store = store;
+        this.vacationPaymentService = vacationPaymentService;
+        this.properties = properties;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(),
+                properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getMaxQueuedJobs()),
+                runnable -> new Thread(runnable, "calculation-job-" + threadNumber.incrementAndGet()),
+                (task, pool) -> {
+                    throw new TooManyRequestsException("Очередь задач перерасчета заполнена. Повторите запрос позже", 60L);
+                }
+        );
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "calculation-job-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Принимает задачу к выполнению.
+     *
+     * @param upload содержимое CSV-файла
+     * @return созданная задача
+     * @throws TooManyRequestsException если очередь задач заполнена
+     * @throws VacationCalculationException если файл не содержит строк для расчета
+     * @throws IOException если файл не удалось сохранить
+     */
+    public CalculationJob submit(InputStream upload) throws IOException {
+        // Быстрый отказ до сохранения файла; окончательную проверку выполняет очередь пула
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new TooManyRequestsException("Очередь задач перерасчета заполнена. Повторите запрос позже", 60L);
+        }
+
+        CalculationJob job = store.create(upload);
+        if (job.getTotalRows() == 0) {
+            job.setStatus(JobStatus.FAILED);
+            job.setError("Файл не содержит строк для расчета");
+            store.save(job);
+            throw new VacationCalculationException("Файл не содержит строк для расчета");
+        }
+
+        try {
+            executor.execute(() -> run(job.getId()));
+        } catch (TooManyRequestsException e) {
+            job.setStatus(JobStatus.FAILED);
+            job.setError(e.getMessage());
+            store.save(job);
+            throw e;
+        }
+        log.info("Задача перерасчета {} принята: {} строк", job.getId(), job.getTotalRows());
+        return job;
+    }
+
+    /**
+     * Возвращает состояние задачи.
+     *
+     * @param jobId идентификатор задачи
+     * @return задача
+     * @throws JobNotFoundException если задача не найдена
+     */
+    public CalculationJob getJob(String jobId) {
+        return store.find(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Задача " + jobId + " не найдена"));
+    }
+
+    /**
+     * Возвращает файл результатов завершенной задачи.
+     *
+     * @param jobId идентификатор задачи
+     * @return путь к файлу результатов
+     * @throws JobNotFoundException если задача не найдена
+     * @throws JobNotFinishedException если задача еще не завершена
+     */
+    public Path getResultFile(String jobId) {
+        CalculationJob job = getJob(jobId);
+        if (job.getStatus() != JobStatus.COMPLETED) {
+            throw new JobNotFinishedException(
+                    "Результаты задачи " + jobId + " недоступны: задача в состоянии " + job.getStatus());
+        }
+        return store.getResultFile(jobId);
+    }
+
+    /**
+     * Ставит в очередь задачи, не завершенные до остановки приложения.
+     * Прерванные задачи продолжаются с последней контрольной точки.
+     * <p>
+     * Задач может быть больше, чем мест в очереди, поэтому они ставятся в очередь
+     * фоновым потоком по мере освобождения мест, не блокируя запуск приложения.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() throws IOException {
+        List<CalculationJob> unfinished = store.findByStatus(EnumSet.of(JobStatus.RUNNING, JobStatus.QUEUED));
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> enqueueBlocking(unfinished), "calculation-job-resume");
+        thread.setDaemon(true);
+        resumer = thread;
+        thread.start();
+        log.info("Возобновлено задач перерасчета: {}", unfinished.size());
+    }
+
+    private void enqueueBlocking(List<CalculationJob> jobs) {
+        // Рабочие потоки забирают задачи только из очереди, поэтому их нужно запустить заранее
+        executor.prestartAllCoreThreads();
+        try {
+            for (CalculationJob job : jobs) {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                executor.getQueue().put(() -> run(job.getId()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Запускает периодическое удаление завершенных задач с истекшим сроком хранения.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleCleanup() {
+        if (!isRetentionEnabled()) {
+            return;
+        }
+        cleaner.scheduleWithFixedDelay(() -> {
+            try {
+                removeExpiredJobs();
+            } catch (IOException | RuntimeException e) {
+                log.error("Не удалось удалить устаревшие задачи перерасчета", e);
+            }
+        }, 0, CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Удаляет завершенные задачи, которые не изменялись дольше
+     * {@link JobProperties#getRetention()}. Выполняющиеся и ожидающие задачи не удаляются.
+     *
+     * @return количество удаленных задач
+     * @throws IOException если каталог задач не удалось прочитать
+     */
+    public int removeExpiredJobs() throws IOException {
+        if (!isRetentionEnabled()) {
+            return 0;
+        }
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getRetention());
+        int removed = 0;
+        for (CalculationJob job : store.findByStatus(EnumSet.of(JobStatus.COMPLETED, JobStatus.FAILED))) {
+            if (job.getUpdatedAt().isBefore(expiredBefore)) {
+                store.delete(job.getId());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("Удалено задач перерасчета с истекшим сроком хранения: {}", removed);
+        }
+        return removed;
+    }
+
+    private boolean isRetentionEnabled() {
+        return properties.getRetention().compareTo(Duration.ZERO) > 0;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        cleaner.shutdownNow();
+        Thread thread = resumer;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Задачи перерасчета не остановлены за 10 секунд");
+        }
+    }
+
+    private void run(String jobId) {
+        CalculationJob job = store.find(jobId).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return;
+        }
+
+        try {
+            job.setStatus(JobStatus.RUNNING);
+            job.setUpdatedAt(LocalDateTime.now());
+            store.save(job);
+            process(job);
+        } catch (IOException | RuntimeException e) {
+            log.error("Задача перерасчета {} завершилась ошибкой", jobId, e);
+            job.setStatus(JobStatus.FAILED);
+            job.setError(e.getMessage());
+            job.setUpdatedAt(LocalDateTime.now());
+            try {
+                store.save(job);
+            } catch (IOException saveError) {
+                log.error("Не удалось сохранить состояние задачи {}", jobId, saveError);
+            }
+        }
+    }
+
+    private void process(CalculationJob job) throws IOException {
+        Path resultFile = store.getResultFile(job.getId());
+        try (FileChannel channel = FileChannel.open(resultFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(job.getResultBytes());
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(store.getInputFile(job.getId()), StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            if (job.getResultBytes() == 0) {
+                writer.write(RESULT_HEADER);
+                writer.newLine();
+            }
+
+            long row = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (row <= job.getProcessedRows()) {
+                    continue;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    checkpoint(job, writer, resultFile);
+                    log.info("Задача перерасчета {} приостановлена на строке {}", job.getId(), job.getProcessedRows());
+                    return;
+                }
+
+                writer.write(calculateRow(row, line, job));
+                writer.newLine();
+                job.setProcessedRows(row);
+
+                if (row % properties.getCheckpointInterval() == 0) {
+                    checkpoint(job, writer, resultFile);
+                }
+            }
+
+            job.setStatus(JobStatus.COMPLETED);
+            checkpoint(job, writer, resultFile);
+            log.info("Задача перерасчета {} завершена: {} строк, ошибок {}",
+                    job.getId(), job.getProcessedRows(), job.getFailedRows());
+        }
+    }
+
+    private void checkpoint(CalculationJob job, BufferedWriter writer, Path resultFile) throws IOException {
+        writer.flush();
+        job.setResultBytes(Files.size(resultFile));
+        job.setUpdatedAt(LocalDateTime.now());
+        store.save(job);
+    }
+
+    private String calculateRow(long row, String line, CalculationJob job) {
+        try {
+            String[] columns = line.split("[,;]");
+            BigDecimal averageSalary = new BigDecimal(columns[0].strip());
+            CalculateResponseDTO response;
+            if (columns.length == 2) {
+                response = vacationPaymentService.calculatePaymentWithNumberOfDays(
+                        new CalculateByDaysRequestDTO(averageSalary, Integer.parseInt(columns[1].strip())));
+            } else if (columns.length == 3) {
+                response = vacationPaymentService.calculatePaymentWithDates(new CalculateByDatesRequestDTO(
+                        averageSalary, LocalDate.parse(columns[1].strip()), LocalDate.parse(columns[2].strip())));
+            } else {
+                throw new VacationCalculationException("Ожидается 2 или 3 колонки, получено " + columns.length);
+            }
+            return row + ",OK," + response.getVacationPayAmount().toPlainString() + ",";
+        } catch (VacationCalculationException | NumberFormatException | DateTimeParseException | ArithmeticException e) {
+            job.setFailedRows(job.getFailedRows() + 1);
+            return row + ",ERROR,," + quote(e.getMessage());
+        }
+    }
+
+    private static String quote(String message) {
+        return '"' + String.valueOf(message).replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.vacationPayCalculator.job;
+
+/**
+ * Состояние задачи пакетного перерасчета.
+ */
+public enum JobStatus {
+    /**
+     * Задача принята и ожидает свободного потока.
+     */
+    QUEUED,
+
+    /**
+     * Задача выполняется или была прервана остановкой приложения
+     * и будет продолжена с последней контрольной точки.
+     */
+    RUNNING,
+
+    /**
+     * Все строки обработаны, результаты доступны для скачивания.
+     */
+    COMPLETED,
+
+    /**
+     * Задача прервана из-за ошибки чтения или записи файлов.
+     */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
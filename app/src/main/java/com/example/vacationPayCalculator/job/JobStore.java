@@ -0,0 +1,245 @@
+package com.example.vacationPayCalculator.job;
+
+import com.example.vacationPayCalculator.config.JobProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Файловое хранилище задач пакетного перерасчета.
+ * <p>
+ * Каждая задача занимает каталог {@code <directory>/<id>} с файлами:
+ * </p>
+ * <ul>
+ *   <li>{@code input.csv} — строки с данными из загруженного файла (без заголовка и комментариев);</li>
+ *   <li>{@code results.csv} — результаты расчета, дописываемые по мере выполнения;</li>
+ *   <li>{@code job.properties} — состояние и контрольная точка задачи.</li>
+ * </ul>
+ * <p>
+ * Состояние перезаписывается атомарно через временный файл, поэтому после сбоя
+ * на диске остается последняя целиком записанная контрольная точка.
+ * </p>
+ *
+ * @see CalculationJob
+ */
+@Component
+public class JobStore {
+    static final String INPUT_FILE = "input.csv";
+    static final String RESULT_FILE = "results.csv";
+    static final String STATE_FILE = "job.properties";
+
+    private static final Pattern JOB_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
+    private final Path root;
+
+    public JobStore(JobProperties properties) {
+        this.root = Path.of(properties.getDirectory());
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать каталог задач " + root, e);
+        }
+    }
+
+    /**
+     * Создает задачу из загруженного файла.
+     * <p>
+     * Данные копируются построчно, поэтому файл любого размера не загружается в память.
+     * Пустые строки, комментарии ({@code #}) и строка заголовка пропускаются.
+     * </p>
+     *
+     * @param upload содержимое загруженного CSV-файла
+     * @return новая задача в состоянии {@link JobStatus#QUEUED}
+     * @throws IOException если файл не удалось сохранить
+     */
+    public CalculationJob create(InputStream upload) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Path directory = Files.createDirectory(root.resolve(id));
+
+        long rows = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(upload, StandardCharsets.UTF_8));
+             BufferedWriter writer = Files.newBufferedWriter(directory.resolve(INPUT_FILE), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#") || (rows == 0 && isHeader(trimmed))) {
+                    continue;
+                }
+                writer.write(trimmed);
+                writer.newLine();
+                rows++;
+            }
+        } catch (IOException e) {
+            delete(directory);
+            throw e;
+        }
+
+        CalculationJob job = new CalculationJob();
+        job.setId(id);
+        job.setStatus(JobStatus.QUEUED);
+        job.setTotalRows(rows);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        save(job);
+        return job;
+    }
+
+    /**
+     * Загружает состояние задачи.
+     *
+     * @param id идентификатор задачи
+     * @return задача или пустой результат, если задача не найдена
+     */
+    public Optional<CalculationJob> find(String id) {
+        if (id == null || !JOB_ID.matcher(id).matches()) {
+            return Optional.empty();
+        }
+        Path state = root.resolve(id).resolve(STATE_FILE);
+        if (!Files.exists(state)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(load(state));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать состояние задачи " + id, e);
+        }
+    }
+
+    /**
+     * Возвращает задачи в указанных состояниях в порядке создания.
+     *
+     * @param statuses искомые состояния
+     * @return задачи, упорядоченные по времени создания
+     * @throws IOException если каталог задач не удалось прочитать
+     */
+    public List<CalculationJob> findByStatus(Set<JobStatus> statuses) throws IOException {
+        List<CalculationJob> jobs = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path directory : directories) {
+                Path state = directory.resolve(STATE_FILE);
+                if (Files.exists(state)) {
+                    CalculationJob job = load(state);
+                    if (statuses.contains(job.getStatus())) {
+                        jobs.add(job);
+                    }
+                }
+            }
+        }
+        jobs.sort(Comparator.comparing(CalculationJob::getCreatedAt));
+        return jobs;
+    }
+
+    /**
+     * Атомарно сохраняет состояние задачи.
+     *
+     * @param job задача
+     * @throws IOException если состояние не удалось записать
+     */
+    public void save(CalculationJob job) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("id", job.getId());
+        state.setProperty("status", job.getStatus().name());
+        state.setProperty("totalRows", Long.toString(job.getTotalRows()));
+        state.setProperty("processedRows", Long.toString(job.getProcessedRows()));
+        state.setProperty("failedRows", Long.toString(job.getFailedRows()));
+        state.setProperty("resultBytes", Long.toString(job.getResultBytes()));
+        state.setProperty("createdAt", job.getCreatedAt().toString());
+        state.setProperty("updatedAt", job.getUpdatedAt().toString());
+        if (job.getError() != null) {
+            state.setProperty("error", job.getError());
+        }
+
+        Path target = root.resolve(job.getId()).resolve(STATE_FILE);
+        Path temp = target.resolveSibling(STATE_FILE + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            state.store(writer, null);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Удаляет каталог задачи со всеми файлами.
+     *
+     * @param id идентификатор задачи
+     * @throws IOException если каталог не удалось удалить
+     */
+    public void delete(String id) throws IOException {
+        delete(root.resolve(id));
+    }
+
+    public Path getInputFile(String id) {
+        return root.resolve(id).resolve(INPUT_FILE);
+    }
+
+    public Path getResultFile(String id) {
+        return root.resolve(id).resolve(RESULT_FILE);
+    }
+
+    private static CalculationJob load(Path stateFile) throws IOException {
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            state.load(reader);
+        }
+
+        CalculationJob job = new CalculationJob();
+        job.setId(state.getProperty("id"));
+        job.setStatus(JobStatus.valueOf(state.getProperty("status")));
+        job.setTotalRows(Long.parseLong(state.getProperty("totalRows")));
+        job.setProcessedRows(Long.parseLong(state.getProperty("processedRows")));
+        job.setFailedRows(Long.parseLong(state.getProperty("failedRows")));
+        job.setResultBytes(Long.parseLong(state.getProperty("resultBytes")));
+        job.setCreatedAt(LocalDateTime.parse(state.getProperty("createdAt")));
+        job.setUpdatedAt(LocalDateTime.parse(state.getProperty("updatedAt")));
+        job.setError(state.getProperty("error"));
+        return job;
+    }
+
+    /**
+     * Строка считается заголовком, если первая колонка не является числом.
+     */
+    private static boolean isHeader(String line) {
+        String firstColumn = line.split("[,;]", 2)[0].strip();
+        try {
+            new BigDecimal(firstColumn);
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.ConcurrencyLimitProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Адаптивный ограничитель количества одновременно выполняемых запросов.
+ * <p>
+ * Лимит изменяется по схеме AIMD по задержке завершившихся запросов:
+ * </p>
+ * <ul>
+ *   <li>задержка не выше целевой и лимит используется хотя бы наполовину —
+ *       лимит растет на {@code 1 / limit} (примерно на единицу за окно из {@code limit} запросов);</li>
+ *   <li>задержка выше целевой — лимит умножается на коэффициент уменьшения, но не чаще
+ *       одного раза за целевую задержку, чтобы одна волна медленных ответов
+ *       не обрушила лимит до минимума.</li>
+ * </ul>
+ * <p>
+ * Запрос, не получивший слот сразу, ожидает в ограниченной очереди; пока очередь
+ * не пуста, новые запросы встают в нее, а не обгоняют ожидающих. При заполненной
+ * очереди или истечении ожидания запрос отклоняется, поэтому задержка принятых
+ * запросов ограничена временем ожидания плюс временем расчета при целевом лимите.
+ * </p>
+ *
+ * <p>Пока очередь пуста, слот занимается и освобождается операциями CAS без
+ * блокировки; лимит увеличивается тоже через CAS. Блокировка берется только
+ * для постановки в очередь, для уменьшения лимита и для пробуждения ожидающих,
+ * то есть при перегрузке. Результаты замера приведены в README
+ * ({@code ConcurrencyLimiterBenchmark}).</p>
+ *
+ * @see ConcurrencyLimitInterceptor
+ * @see ConcurrencyLimitProperties
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+    private final ConcurrencyLimitProperties properties;
+    private final long targetLatencyNanos;
+    private final long maxQueueWaitNanos;
+
+    /**
+     * Справедливая блокировка очереди: при насыщении отклоненные клиенты сразу повторяют
+     * запросы, и без очередности захвата проснувшийся ожидающий поток мог бы не получить
+     * блокировку дольше допустимого ожидания.
+     */
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotReleased = lock.newCondition();
+
+    /**
+     * Текущий лимит в виде {@link Double#doubleToRawLongBits(double)}.
+     */
+    private final AtomicLong limitBits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Изменяется только под блокировкой; читается без нее на быстром пути.
+     */
+    private volatile int queued;
+
+    /**
+     * Изменяется только под блокировкой.
+     */
+    private long lastDecreaseNanos;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("Некорректные границы лимита одновременных запросов");
+        }
+        this.properties = properties;
+        this.targetLatencyNanos = properties.getTargetLatency().toNanos();
+        this.maxQueueWaitNanos = properties.getMaxQueueWait().toNanos();
+        double initialLimit = Math.max(properties.getMinLimit(),
+                Math.min(properties.getMaxLimit(), properties.getInitialLimit()));
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+        this.lastDecreaseNanos = System.nanoTime() - targetLatencyNanos;
+    }
+
+    /**
+     * Занимает слот выполнения, при необходимости ожидая в очереди.
+     *
+     * @return {@code true}, если слот получен; {@code false}, если запрос следует отклонить
+     */
+    public boolean tryAcquire() {
+        // Быстрый путь: очередь пуста, новые запросы не обгоняют ожидающих
+        if (queued == 0 && tryIncrementInFlight()) {
+            accepted.increment();
+            return true;
+        }
+
+        lock.lock();
+        try {
+            if (queued == 0 && tryIncrementInFlight()) {
+                accepted.increment();
+                return true;
+            }
+            if (queued >= properties.getMaxQueueSize() || maxQueueWaitNanos <= 0) {
+                shed.increment();
+                return false;
+            }
+
+            queued++;
+            try {
+                long remainingNanos = maxQueueWaitNanos;
+                while (!tryIncrementInFlight()) {
+                    if (remainingNanos <= 0) {
+                        shed.increment();
+                        return false;
+                    }
+                    remainingNanos = slotReleased.awaitNanos(remainingNanos);
+                }
+                accepted.increment();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shed.increment();
+                return false;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryIncrementInFlight() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Освобождает слот и корректирует лимит по задержке запроса.
+     *
+     * @param latencyNanos время выполнения запроса
+     */
+    public void release(long latencyNanos) {
+        release(latencyNanos, System.nanoTime());
+    }
+
+    void release(long latencyNanos, long nowNanos) {
+        // Уменьшение счетчика до чтения queued: либо ожидающий увидит освободившийся слот,
+        // либо освобождающий поток увидит ожидающего и разбудит его
+        int previousInFlight = inFlight.getAndDecrement();
+
+        if (latencyNanos > targetLatencyNanos) {
+            lock.lock();
+            try {
+                if (nowNanos - lastDecreaseNanos >= targetLatencyNanos) {
+                    updateLimit(-1);
+                    lastDecreaseNanos = nowNanos;
+                }
+            } finally {
+                lock.unlock();
+            }
+        } else if (previousInFlight * 2 >= (int) limit()) {
+            updateLimit(1);
+        }
+
+        if (queued > 0) {
+            lock.lock();
+            try {
+                slotReleased.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Увеличивает лимит на {@code 1 / limit} ({@code direction > 0})
+     * или умножает его на коэффициент уменьшения ({@code direction < 0}).
+     */
+    private void updateLimit(int direction) {
+        while (true) {
+            long bits = limitBits.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = direction > 0
+                    ? Math.min(properties.getMaxLimit(), current + 1.0 / current)
+                    : Math.max(properties.getMinLimit(), current * properties.getBackoffRatio());
+            if (next == current || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getLimit() {
+        return (int) limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.RateLimitProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Реестр корзин токенов для ограничения частоты запросов по клиентам.
+ * <p>
+ * Корзины хранятся в {@link ConcurrentHashMap}, которая разбита на независимые
+ * сегменты и не блокирует чтение, поэтому запросы разных клиентов не конкурируют
+ * друг с другом. Для каждого клиента ведутся отдельные корзины интерактивной
+ * и пакетной полос. Дополнительно ограничивается общее число одновременно
+ * выполняемых пакетных запросов.
+ * </p>
+ *
+ * <p>Путь принятого запроса не выделяет память (кроме первого запроса клиента)
+ * и состоит из поиска в хеш-таблице и одной операции CAS.</p>
+ *
+ * <p>Размер реестра жестко ограничен {@code max-tracked-clients} в каждой полосе.
+ * Заполненный реестр очищается от неактивных корзин не чаще одного раза
+ * за {@code eviction-interval}, поэтому поток новых идентификаторов клиентов
+ * не вызывает полный обход реестра на каждом запросе. Пока места нет, новые
+ * клиенты делят одну общую корзину полосы.</p>
+ *
+ * @see TokenBucket
+ * @see RateLimitInterceptor
+ */
+@Component
+public class ClientRateLimiter {
+    private final RateLimitProperties properties;
+    private final BucketRegistry interactiveBuckets;
+    private final BucketRegistry bulkBuckets;
+    private final AtomicInteger bulkInFlight = new AtomicInteger();
+
+    public ClientRateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.interactiveBuckets = new BucketRegistry(properties.getInteractive());
+        this.bulkBuckets = new BucketRegistry(properties.getBulk());
+    }
+
+    /**
+     * Пытается принять запрос клиента в указанной полосе.
+     *
+     * @param clientId идентификатор клиента (API-ключ или IP-адрес)
+     * @param lane полоса запроса
+     * @return {@code 0}, если запрос принят, иначе время в наносекундах до появления токена
+     */
+    public long tryAcquire(String clientId, RequestLane lane) {
+        return tryAcquire(clientId, lane, System.nanoTime());
+    }
+
+    long tryAcquire(String clientId, RequestLane lane, long nowNanos) {
+        BucketRegistry buckets = lane == RequestLane.BULK ? bulkBuckets : interactiveBuckets;
+        return buckets.get(clientId, nowNanos).tryAcquire(nowNanos);
+    }
+
+    /**
+     * Возвращает количество клиентов с собственными корзинами в полосе.
+     *
+     * @param lane полоса запросов
+     * @return количество отслеживаемых клиентов
+     */
+    public int getTrackedClients(RequestLane lane) {
+        return (lane == RequestLane.BULK ? bulkBuckets : interactiveBuckets).tracked.get();
+    }
+
+    /**
+     * Занимает слот для выполнения пакетного запроса.
+     *
+     * @return {@code true}, если слот получен; в этом случае обязателен вызов {@link #releaseBulk()}
+     */
+    public boolean tryEnterBulk() {
+        int limit = properties.getMaxBulkInFlight();
+        while (true) {
+            int current = bulkInFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (bulkInFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Освобождает слот, занятый {@link #tryEnterBulk()}.
+     */
+    public void releaseBulk() {
+        bulkInFlight.decrementAndGet();
+    }
+
+    /**
+     * Корзины клиентов одной полосы с ограниченным количеством записей.
+     */
+    private final class BucketRegistry {
+        private final RateLimitProperties.Bucket limits;
+        private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicInteger tracked = new AtomicInteger();
+        private final AtomicLong nextEvictionNanos = new AtomicLong(Long.MIN_VALUE);
+        private final TokenBucket overflow;
+
+        private BucketRegistry(RateLimitProperties.Bucket limits) {
+            this.limits = limits;
+            this.overflow = newBucket();
+        }
+
+        /**
+         * Возвращает корзину клиента. Для нового клиента корзина создается, только если
+         * в реестре есть место; иначе возвращается общая корзина переполнения.
+         */
+        private TokenBucket get(String clientId, long nowNanos) {
+            TokenBucket bucket = buckets.get(clientId);
+            if (bucket != null) {
+                return bucket;
+            }
+
+            if (!reserveSlot() && !(evictIdleBuckets(nowNanos) && reserveSlot())) {
+                return overflow;
+            }
+            TokenBucket created = newBucket();
+            bucket = buckets.putIfAbsent(clientId, created);
+            if (bucket != null) {
+                tracked.decrementAndGet();
+                return bucket;
+            }
+            return created;
+        }
+
+        private boolean reserveSlot() {
+            int limit = properties.getMaxTrackedClients();
+            while (true) {
+                int current = tracked.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (tracked.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Удаляет полностью пополненные корзины. Выполняется одним потоком и не чаще
+         * одного раза за {@code eviction-interval}; остальные потоки сразу получают
+         * {@code false} и не ждут окончания обхода.
+         *
+         * @return {@code true}, если очистка выполнена этим вызовом
+         */
+        private boolean evictIdleBuckets(long nowNanos) {
+            long next = nextEvictionNanos.get();
+            if (next != Long.MIN_VALUE && nowNanos - next < 0
+                    || !nextEvictionNanos.compareAndSet(next, nowNanos + properties.getEvictionInterval().toNanos())) {
+                return false;
+            }
+            for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+                if (entry.getValue().isFull(nowNanos) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    tracked.decrementAndGet();
+                }
+            }
+            return true;
+        }
+
+        private TokenBucket newBucket() {
+            return new TokenBucket(limits.getCapacity(), limits.getRefillPerSecond());
+        }
+    }
+}
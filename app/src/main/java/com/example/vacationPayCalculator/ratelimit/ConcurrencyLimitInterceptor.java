@@ -0,0 +1,65 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.ConcurrencyLimitProperties;
+import com.example.vacationPayCalculator.exception.ServiceOverloadedException;
+import com.example.vacationPayCalculator.warmup.WarmupRequestFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Перехватчик, ограничивающий количество одновременно выполняемых расчетов.
+ * <p>
+ * Запрос, для которого {@link AdaptiveConcurrencyLimiter} не выделил слот,
+ * отклоняется исключением {@link ServiceOverloadedException}, которое
+ * {@link com.example.vacationPayCalculator.exception.GlobalExceptionHandler}
+ * преобразует в ответ {@code 503} с заголовком {@code Retry-After}.
+ * После завершения запроса слот освобождается, а время выполнения
+ * передается ограничителю для корректировки лимита.
+ * </p>
+ *
+ * <p>Пакетный расчет {@code /batch} исключен из перехватчика
+ * ({@link com.example.vacationPayCalculator.config.WebConfiguration}): одна целевая
+ * задержка не подходит запросам, время которых растет с числом элементов.</p>
+ *
+ * <p>Запросы прогрева при запуске (помеченные {@link WarmupRequestFilter}) ограничителем не учитываются:
+ * задержки холодного кода не должны снижать лимит до открытия приема трафика.</p>
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties) {
+        this.limiter = limiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || WarmupRequestFilter.isWarmupRequest(request)) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException(
+                    "Сервис перегружен. Повторите запрос позже", properties.getRetryAfterSeconds());
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(System.nanoTime() - (Long) start);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.RateLimitProperties;
+import com.example.vacationPayCalculator.exception.TooManyRequestsException;
+import com.example.vacationPayCalculator.warmup.WarmupRequestFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Перехватчик, выполняющий контроль допуска запросов к API расчета.
+ * <p>
+ * Определяет клиента по заголовку, а полосу — по заголовку приоритета
+ * ({@code /batch} всегда относится к пакетной полосе), списывает токен из
+ * корзины клиента и, для пакетных запросов, занимает слот одновременного
+ * выполнения. При превышении лимита выбрасывает {@link TooManyRequestsException},
+ * которое {@link com.example.vacationPayCalculator.exception.GlobalExceptionHandler}
+ * преобразует в ответ {@code 429} с заголовком {@code Retry-After}.
+ * </p>
+ *
+ * <p>Запросы прогрева при запуске (помеченные {@link WarmupRequestFilter}) не ограничиваются.</p>
+ *
+ * @see ClientRateLimiter
+ * @see RateLimitProperties
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String BULK_SLOT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".bulkSlot";
+    private static final String BATCH_PATH = "/api/v1/calculate/batch";
+
+    private final ClientRateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    public RateLimitInterceptor(ClientRateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || WarmupRequestFilter.isWarmupRequest(request)) {
+            return true;
+        }
+
+        String clientId = request.getHeader(properties.getClientHeader());
+        if (clientId == null || clientId.isBlank()) {
+            clientId = request.getRemoteAddr();
+        }
+        RequestLane lane = isBatch(request)
+                ? RequestLane.BULK
+                : RequestLane.fromHeader(request.getHeader(properties.getPriorityHeader()));
+
+        long waitNanos = rateLimiter.tryAcquire(clientId, lane);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(
+                    "Превышен лимит запросов. Повторите запрос позже",
+                    Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))
+            );
+        }
+
+        if (lane == RequestLane.BULK) {
+            if (!rateLimiter.tryEnterBulk()) {
+                throw new TooManyRequestsException(
+                        "Превышено количество одновременно выполняемых пакетных запросов", 1L);
+            }
+            request.setAttribute(BULK_SLOT_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    /**
+     * Пакетный расчет всегда идет в полосу {@link RequestLane#BULK}, даже без заголовка приоритета:
+     * иначе пакет до 100 000 элементов расходовал бы интерактивную квоту клиента
+     * и не ограничивался слотами пакетных запросов.
+     */
+    private static boolean isBatch(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(BATCH_PATH);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(BULK_SLOT_ATTRIBUTE) != null) {
+            request.removeAttribute(BULK_SLOT_ATTRIBUTE);
+            rateLimiter.releaseBulk();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+/**
+ * Приоритетная очередь (полоса), в которую попадает запрос.
+ * <p>
+ * Интерактивные запросы (HR-интерфейс) и пакетные запросы (выгрузки расчетчиков)
+ * ограничиваются независимо, чтобы пакетная нагрузка не задерживала интерактивную.
+ * </p>
+ */
+public enum RequestLane {
+    INTERACTIVE,
+    BULK;
+
+    /**
+     * Определяет полосу по значению заголовка приоритета.
+     *
+     * @param headerValue значение заголовка (может быть null)
+     * @return {@link #BULK} для значения {@code bulk}, иначе {@link #INTERACTIVE}
+     */
+    public static RequestLane fromHeader(String headerValue) {
+        return "bulk".equalsIgnoreCase(headerValue) ? BULK : INTERACTIVE;
+    }
+}
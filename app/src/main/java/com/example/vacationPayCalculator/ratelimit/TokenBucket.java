@@ -0,0 +1,81 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Неблокирующий token bucket для ограничения частоты запросов одного клиента.
+ * <p>
+ * Состояние корзины хранится в одном {@link AtomicLong} в виде
+ * «теоретического времени прибытия» (GCRA — generic cell rate algorithm):
+ * каждый принятый запрос сдвигает это время на интервал пополнения одного токена,
+ * а запрос отклоняется, если сдвиг превышает допустимый запас корзины.
+ * Такая форма эквивалентна классическому token bucket, но обновляется
+ * одной операцией CAS без блокировок и без выделения памяти.
+ * </p>
+ *
+ * <p>Пример использования:</p>
+ * <pre>
+ * TokenBucket bucket = new TokenBucket(20, 10.0); // 20 запросов пачкой, 10 запросов в секунду
+ * long waitNanos = bucket.tryAcquire(System.nanoTime());
+ * if (waitNanos > 0) {
+ *     // запрос отклонен, повторить не раньше чем через waitNanos
+ * }
+ * </pre>
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * @param capacity максимальное количество запросов, принимаемых пачкой
+     * @param refillPerSecond скорость пополнения корзины (токенов в секунду)
+     * @throws IllegalArgumentException если параметры не положительны
+     */
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Емкость корзины должна быть не менее 1");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Скорость пополнения должна быть больше нуля");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Пытается забрать один токен из корзины.
+     *
+     * @param nowNanos текущее время в наносекундах ({@link System#nanoTime()})
+     * @return {@code 0}, если токен получен, иначе время в наносекундах,
+     *         через которое токен станет доступен
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long arrival = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+            long next = arrival + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos - emissionIntervalNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что корзина полностью пополнилась к указанному моменту.
+     * Такую корзину можно удалить без изменения поведения ограничителя:
+     * новая корзина для того же клиента будет в том же состоянии.
+     *
+     * @param nowNanos текущее время в наносекундах
+     * @return {@code true}, если корзина полна
+     */
+    public boolean isFull(long nowNanos) {
+        long current = theoreticalArrivalNanos.get();
+        return current == Long.MIN_VALUE || current - nowNanos <= 0;
+    }
+}
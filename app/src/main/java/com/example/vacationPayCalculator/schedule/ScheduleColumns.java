@@ -0,0 +1,85 @@
+package com.example.vacationPayCalculator.schedule;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Колонки графика отпусков в памяти вне кучи (off-heap).
+ * <p>
+ * Каждая колонка — отдельный direct-буфер, строки упорядочены по дню начала
+ * интервала. Колонка {@link #maxEndDays} хранит максимум дня окончания среди
+ * строк {@code 0..i} и служит индексом интервалов: она неубывающая, поэтому
+ * первая строка, которая может пересекаться с окном запроса, находится
+ * двоичным поиском.
+ * </p>
+ *
+ * <p>После заполнения экземпляр не изменяется и публикуется через volatile-ссылку.</p>
+ *
+ * @see VacationScheduleStore
+ */
+final class ScheduleColumns {
+    static final ScheduleColumns EMPTY = new ScheduleColumns(0, null);
+
+    final int size;
+    final String calendarVersion;
+
+    final LongBuffer employeeIds;
+    final IntBuffer startDays;
+    final IntBuffer endDays;
+    final IntBuffer maxEndDays;
+    final IntBuffer paidDays;
+    final LongBuffer scaledDailyEarnings;
+    final LongBuffer payKopecks;
+
+    ScheduleColumns(int size, String calendarVersion) {
+        this.size = size;
+        this.calendarVersion = calendarVersion;
+        this.employeeIds = allocate(size, Long.BYTES).asLongBuffer();
+        this.startDays = allocate(size, Integer.BYTES).asIntBuffer();
+        this.endDays = allocate(size, Integer.BYTES).asIntBuffer();
+        this.maxEndDays = allocate(size, Integer.BYTES).asIntBuffer();
+        this.paidDays = allocate(size, Integer.BYTES).asIntBuffer();
+        this.scaledDailyEarnings = allocate(size, Long.BYTES).asLongBuffer();
+        this.payKopecks = allocate(size, Long.BYTES).asLongBuffer();
+    }
+
+    private static ByteBuffer allocate(int size, int bytes) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(size, bytes)).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @return индекс первой строки, у которой {@code maxEndDays >= epochDay}
+     */
+    int firstEndingOnOrAfter(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (maxEndDays.get(middle) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return индекс первой строки, начинающейся позже {@code epochDay}
+     */
+    int firstStartingAfter(int epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (startDays.get(middle) <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.vacationPayCalculator.schedule;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.ScheduleEntryDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleLoadResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleSummaryResponseDTO;
+import com.example.vacationPayCalculator.calendar.HolidayBitmap;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.service.CalendarService;
+import com.example.vacationPayCalculator.engine.PayTable;
+import com.example.vacationPayCalculator.service.VacationPaymentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Хранилище графика отпусков сотрудников для плановых запросов по диапазону дат.
+ * <p>
+ * Отвечает на вопрос «кто в отпуске между X и Y и во что это обходится» одним
+ * проходом по колонкам {@link ScheduleColumns} вместо вызова расчета по датам
+ * для каждого сотрудника. При загрузке для каждого интервала рассчитываются
+ * оплачиваемые дни ({@link CalendarService#countPaidDays(int[], int[])}) и сумма
+ * отпускных ({@link VacationPaymentService}) с обычной валидацией. При запросе
+ * интервалы обрезаются по окну, оплачиваемые дни внутри окна считаются по битовой
+ * карте праздников, а сумма — в копейках в фиксированной точке
+ * ({@link PayTable#amountInKopecks(long, int)}); объекты на строку не создаются.
+ * </p>
+ *
+ * <p>Загрузка заменяет график целиком; запросы во время загрузки обслуживаются
+ * предыдущей версией колонок.</p>
+ *
+ * <p>Все агрегаты запроса относятся к действующему календарю. Если календарь
+ * сменился после загрузки графика, сохраненная при загрузке полная стоимость
+ * интервалов не используется: она пересчитывается по текущей битовой карте,
+ * и в ответе возвращается текущая версия календаря.</p>
+ *
+ * @see ScheduleColumns
+ */
+@Slf4j
+@Component
+public class VacationScheduleStore {
+    private final CalendarService calendarService;
+    private final VacationPaymentService vacationPaymentService;
+
+    private volatile ScheduleColumns columns = ScheduleColumns.EMPTY;
+
+    public VacationScheduleStore(CalendarService calendarService, VacationPaymentService vacationPaymentService) {
+        this.calendarService = calendarService;
+        this.vacationPaymentService = vacationPaymentService;
+    }
+
+    /**
+     * Заменяет график отпусков.
+     *
+     * @param entries интервалы отпусков сотрудников
+     * @return итоги загруженного графика
+     * @throws VacationCalculationException если какой-либо интервал не проходит валидацию расчета
+     */
+    public ScheduleLoadResponseDTO load(List<ScheduleEntryDTO> entries) {
+        int size = entries.size();
+        int[] startDays = new int[size];
+        int[] endDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            ScheduleEntryDTO entry = entries.get(i);
+            startDays[i] = Math.toIntExact(entry.getStartDate().toEpochDay());
+            endDays[i] = Math.toIntExact(entry.getEndDate().toEpochDay());
+        }
+        int[] paidDays = calendarService.countPaidDays(startDays, endDays);
+
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = ((long) startDays[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        ScheduleColumns loaded = new ScheduleColumns(size, calendarService.getCalendarVersion());
+        int maxEndDay = Integer.MIN_VALUE;
+        long totalPaidDays = 0;
+        long totalKopecks = 0;
+        for (int row = 0; row < size; row++) {
+            int i = (int) order[row];
+            ScheduleEntryDTO entry = entries.get(i);
+            long payKopecks = calculatePayKopecks(entry, paidDays[i]);
+
+            maxEndDay = Math.max(maxEndDay, endDays[i]);
+            loaded.employeeIds.put(row, entry.getEmployeeId());
+            loaded.startDays.put(row, startDays[i]);
+            loaded.endDays.put(row, endDays[i]);
+            loaded.maxEndDays.put(row, maxEndDay);
+            loaded.paidDays.put(row, paidDays[i]);
+            loaded.scaledDailyEarnings.put(row, PayTable.scaledDailyEarnings(entry.getAverageSalary()));
+            loaded.payKopecks.put(row, payKopecks);
+
+            totalPaidDays += paidDays[i];
+            totalKopecks += payKopecks;
+        }
+
+        columns = loaded;
+        log.info("Загружен график отпусков: {} интервалов, календарь {}", size, loaded.calendarVersion);
+        return new ScheduleLoadResponseDTO(size, totalPaidDays, BigDecimal.valueOf(totalKopecks, 2),
+                loaded.calendarVersion);
+    }
+
+    private long calculatePayKopecks(ScheduleEntryDTO entry, int paidDays) {
+        try {
+            BigDecimal amount = vacationPaymentService.calculatePaymentWithNumberOfDays(
+                    new CalculateByDaysRequestDTO(entry.getAverageSalary(), paidDays)).getVacationPayAmount();
+            return amount.movePointRight(2).longValueExact();
+        } catch (VacationCalculationException e) {
+            throw new VacationCalculationException("Сотрудник " + entry.getEmployeeId() + ", отпуск "
+                    + entry.getStartDate() + " — " + entry.getEndDate() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Агрегирует отпуска, пересекающиеся с окном дат.
+     *
+     * @param from первый день окна (включительно)
+     * @param to последний день окна (включительно)
+     * @param includeEmployees включить ли в ответ идентификаторы сотрудников
+     * @return количество интервалов и сотрудников, оплачиваемые дни и отпускные внутри окна
+     * @throws VacationCalculationException если начало окна позже окончания
+     */
+    public ScheduleSummaryResponseDTO summarize(LocalDate from, LocalDate to, boolean includeEmployees) {
+        if (from.isAfter(to)) {
+            throw new VacationCalculationException("Дата начала не может быть позже даты окончания периода");
+        }
+        ScheduleColumns snapshot = columns;
+        String calendarVersion = calendarService.getCalendarVersion();
+        HolidayBitmap holidays = calendarService.getHolidayBitmap();
+        boolean calendarChanged = !calendarVersion.equals(snapshot.calendarVersion);
+        int fromDay = (int) Math.max(Integer.MIN_VALUE, from.toEpochDay());
+        int toDay = (int) Math.min(Integer.MAX_VALUE, to.toEpochDay());
+
+        int first = snapshot.firstEndingOnOrAfter(fromDay);
+        int last = snapshot.firstStartingAfter(toDay);
+        long[] employeeIds = new long[Math.max(0, last - first)];
+        int intervals = 0;
+        long paidDays = 0;
+        long windowKopecks = 0;
+        long intervalKopecks = 0;
+        for (int row = first; row < last; row++) {
+            int endDay = snapshot.endDays.get(row);
+            if (endDay < fromDay) {
+                continue;
+            }
+            int startDay = snapshot.startDays.get(row);
+            int windowPaidDays = holidays.countPaidDays(Math.max(startDay, fromDay), Math.min(endDay, toDay));
+            long scaledDailyEarnings = snapshot.scaledDailyEarnings.get(row);
+
+            employeeIds[intervals++] = snapshot.employeeIds.get(row);
+            paidDays += windowPaidDays;
+            windowKopecks += PayTable.amountInKopecks(scaledDailyEarnings, windowPaidDays);
+            intervalKopecks += calendarChanged
+                    ? PayTable.amountInKopecks(scaledDailyEarnings, holidays.countPaidDays(startDay, endDay))
+                    : snapshot.payKopecks.get(row);
+        }
+
+        Arrays.sort(employeeIds, 0, intervals);
+        int employees = 0;
+        for (int i = 0; i < intervals; i++) {
+            if (i == 0 || employeeIds[i] != employeeIds[i - 1]) {
+                employeeIds[employees++] = employeeIds[i];
+            }
+        }
+
+        return new ScheduleSummaryResponseDTO(
+                from,
+                to,
+                intervals,
+                employees,
+                paidDays,
+                BigDecimal.valueOf(windowKopecks, 2),
+                BigDecimal.valueOf(intervalKopecks, 2),
+                calendarVersion,
+                includeEmployees ? Arrays.copyOf(employeeIds, employees) : null
+        );
+    }
+}
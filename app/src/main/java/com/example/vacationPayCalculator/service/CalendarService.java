@@ -0,0 +1,272 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.calendar.DateRange;
+import com.example.vacationPayCalculator.calendar.HolidayBitmap;
+import com.example.vacationPayCalculator.calendar.HolidaySnapshot;
+import com.example.vacationPayCalculator.config.HolidayConfiguration;
+import com.example.vacationPayCalculator.engine.VacationPayEngine;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.tracing.CalculationTracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Сервис для работы с календарными данными и расчета рабочих дней.
+ * <p>
+ * Предоставляет функциональность для определения праздничных дней
+ * и расчета количества рабочих дней в заданном периоде с учетом
+ * праздников и выходных.
+ * </p>
+ *
+ * <p>Основные функции:</p>
+ * <ul>
+ *   <li>Проверка, является ли конкретная дата праздничным днем</li>
+ *   <li>Подсчет рабочих дней между двумя датами с исключением праздников</li>
+ *   <li>Валидация входных данных для календарных операций</li>
+ * </ul>
+ *
+ * <p>Праздничные дни берутся из бинарного снимка календаря ({@code vacation.snapshot}),
+ * если он задан, иначе — из списка {@code vacation.holidays}. Битовая карта движка
+ * строится прямо из слов снимка, без промежуточного списка дат.</p>
+ *
+ * <p>Сам подсчет и валидация выполняются движком {@link VacationPayEngine} из модуля
+ * {@code core}; сервис привязывает движок к конфигурации Spring и размечает этапы трассировки.</p>
+ *
+ * <p>Версия календаря и движок строятся один раз при создании сервиса и хранятся
+ * в одном неизменяемом объекте, поэтому запрос не сравнивает и не хеширует список
+ * праздников. Счетчики {@link #getEngineBuilds()} и {@link #getPaidDayQueries()} показывают,
+ * что запросы обслуживаются построенным движком, а не пересборкой битовой карты.</p>
+ *
+ * @see VacationPayEngine
+ * @see HolidayConfiguration
+ * @see HolidaySnapshot
+ * @see VacationCalculationException
+ */
+@Slf4j
+@Service
+public class CalendarService {
+    private final CalendarState calendar;
+
+    private final LongAdder engineBuilds = new LongAdder();
+    private final LongAdder paidDayQueries = new LongAdder();
+
+    public CalendarService(HolidayConfiguration configuration) {
+        this.calendar = loadCalendar(configuration);
+    }
+
+    /**
+     * Действующий календарь: версия и движок, построенные один раз при создании сервиса.
+     */
+    private record CalendarState(String version, VacationPayEngine engine) {
+    }
+
+    private CalendarState loadCalendar(HolidayConfiguration configuration) {
+        String configuredVersion = configuration.getVersion();
+        boolean versionConfigured = configuredVersion != null && !configuredVersion.isBlank();
+
+        HolidaySnapshot snapshot = loadSnapshot(configuration.getSnapshot());
+        if (snapshot != null) {
+            return new CalendarState(versionConfigured ? configuredVersion : snapshot.getVersion(),
+                    new VacationPayEngine(HolidayBitmap.of(snapshot)));
+        }
+
+        List<LocalDate> holidays = configuration.getHolidays();
+        VacationPayEngine engine = VacationPayEngine.withHolidays(holidays);
+        engineBuilds.increment();
+        return new CalendarState(versionConfigured ? configuredVersion : hashHolidays(holidays), engine);
+    }
+
+    private static HolidaySnapshot loadSnapshot(String snapshotPath) {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return null;
+        }
+        try {
+            HolidaySnapshot snapshot = HolidaySnapshot.open(Path.of(snapshotPath));
+            log.info("Загружен снимок календаря {}: версия {}, годы {}-{}",
+                    snapshotPath, snapshot.getVersion(), snapshot.getFirstYear(),
+                    snapshot.getFirstYear() + snapshot.getYearCount() - 1);
+            return snapshot;
+        } catch (IOException e) {
+            throw new IllegalStateException("Не удалось загрузить снимок календаря " + snapshotPath, e);
+        }
+    }
+
+    /**
+     * Возвращает версию действующего производственного календаря.
+     * <p>
+     * Если версия задана в конфигурации ({@code vacation.version}), возвращается она.
+     * Если загружен снимок календаря, возвращается версия из его заголовка.
+     * Иначе версия вычисляется как хеш SHA-256 списка праздников.
+     * Версия вычисляется один раз при создании сервиса.
+     * </p>
+     *
+     * @return строковый идентификатор версии календаря
+     */
+    public String getCalendarVersion() {
+        return calendar.version();
+    }
+
+    private static String hashHolidays(List<LocalDate> holidays) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            holidays.stream()
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .forEach(date -> digest.update(date.toString().getBytes(StandardCharsets.US_ASCII)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Алгоритм SHA-256 недоступен", e);
+        }
+    }
+
+    /**
+     * Возвращает движок расчета для действующего календаря.
+     * Движок строится один раз при создании сервиса — из снимка календаря
+     * либо из списка праздников конфигурации.
+     *
+     * @return движок расчета
+     */
+    public VacationPayEngine getEngine() {
+        return calendar.engine();
+    }
+
+    /**
+     * Возвращает количество построений движка по списку праздников из конфигурации.
+     * <p>
+     * Движок строится один раз при создании сервиса, поэтому значение больше единицы
+     * означает пересборку битовой карты. При загруженном снимке календаря счетчик
+     * остается нулевым.
+     * </p>
+     *
+     * @return количество построений с момента запуска
+     */
+    public long getEngineBuilds() {
+        return engineBuilds.sum();
+    }
+
+    /**
+     * Возвращает количество периодов, переданных на подсчет оплачиваемых дней,
+     * включая отклоненные из-за некорректных дат.
+     *
+     * @return количество периодов с момента запуска или последнего сброса
+     * @see #resetPaidDayQueries()
+     */
+    public long getPaidDayQueries() {
+        return paidDayQueries.sum();
+    }
+
+    /**
+     * Обнуляет счетчик периодов, переданных на подсчет оплачиваемых дней.
+     * Вызывается после прогрева, чтобы синтетические запросы не попадали в метрики.
+     */
+    public void resetPaidDayQueries() {
+        paidDayQueries.reset();
+    }
+
+    private void countPaidDayQueries(int periods) {
+        paidDayQueries.add(periods);
+    }
+
+    /**
+     * Возвращает битовую карту праздников действующего календаря.
+     *
+     * @return битовая карта праздников
+     */
+    public HolidayBitmap getHolidayBitmap() {
+        return getEngine().getHolidays();
+    }
+
+    /**
+     * Рассчитывает количество рабочих дней между двумя датами (включительно).
+     * <p>
+     * Метод исключает из подсчета праздничные дни, определенные в конфигурации.
+     * Оба конца периода (начальная и конечная даты) включаются в расчет.
+     * </p>
+     *
+     * <p>Пример:</p>
+     * <pre>
+     * // Если 1 января - праздник
+     * int days = getDaysBetweenDates(
+     *     LocalDate.of(2023, 1, 1),
+     *     LocalDate.of(2023, 1, 5)
+     * ); // вернет 4 (без 1 января)
+     * </pre>
+     *
+     * @param startDate дата начала периода (включительно)
+     * @param endDate дата окончания периода (включительно)
+     * @return количество рабочих дней в периоде
+     * @throws VacationCalculationException если:
+     *          <ul>
+     *            <li>startDate или endDate равны null</li>
+     *            <li>startDate позже endDate</li>
+     *            <li>в периоде нет рабочих дней (все дни - праздники)</li>
+     *          </ul>
+     * @see VacationPayEngine#getDaysBetweenDates(LocalDate, LocalDate)
+     */
+    public int getDaysBetweenDates(LocalDate startDate, LocalDate endDate) {
+        countPaidDayQueries(1);
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.CALENDAR)) {
+            return getEngine().getDaysBetweenDates(startDate, endDate);
+        }
+    }
+
+    /**
+     * Рассчитывает количество рабочих дней в каждом из нескольких периодов отпуска.
+     * <p>
+     * Периоды упорядочиваются по дате начала и проверяются на пересечение.
+     * Результат возвращается в порядке исходного списка.
+     * </p>
+     *
+     * @param periods периоды отпуска (обе границы включаются)
+     * @return количество рабочих дней для каждого периода
+     * @throws VacationCalculationException если:
+     *          <ul>
+     *            <li>дата периода равна null или начало позже окончания</li>
+     *            <li>периоды пересекаются</li>
+     *            <li>в каком-либо периоде нет рабочих дней</li>
+     *          </ul>
+     * @see VacationPayEngine#getDaysInPeriods(List)
+     */
+    public int[] getDaysInPeriods(List<DateRange> periods) {
+        countPaidDayQueries(periods.size());
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.CALENDAR)) {
+            return getEngine().getDaysInPeriods(periods);
+        }
+    }
+
+    /**
+     * Пакетно рассчитывает количество оплачиваемых дней для множества диапазонов.
+     * <p>
+     * Предназначен для аналитических выгрузок (например, оплачиваемые дни каждого
+     * сотрудника за каждый месяц горизонта планирования). Границы передаются колонками
+     * номеров дней от эпохи ({@link LocalDate#toEpochDay()}), каждый диапазон считается
+     * за O(1) по битовой карте праздников без создания объектов {@link LocalDate}.
+     * </p>
+     *
+     * <p>В отличие от {@link #getDaysBetweenDates(LocalDate, LocalDate)}, диапазон
+     * без оплачиваемых дней не является ошибкой: для него возвращается {@code 0}.</p>
+     *
+     * @param startEpochDays первые дни диапазонов (включительно)
+     * @param endEpochDays последние дни диапазонов (включительно)
+     * @return количество оплачиваемых дней для каждого диапазона
+     * @throws VacationCalculationException если длины массивов не совпадают
+     *          или начало какого-либо диапазона позже его окончания
+     */
+    public int[] countPaidDays(int[] startEpochDays, int[] endEpochDays) {
+        countPaidDayQueries(startEpochDays != null ? startEpochDays.length : 0);
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.CALENDAR)) {
+            return getEngine().countPaidDays(startEpochDays, endEpochDays);
+        }
+    }
+}
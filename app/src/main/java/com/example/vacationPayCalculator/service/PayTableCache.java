@@ -0,0 +1,162 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.config.PayTableProperties;
+import com.example.vacationPayCalculator.engine.PayTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Кеш таблиц отпускных.
+ * <p>
+ * Таблицы для окладных грейдов из конфигурации рассчитываются при создании
+ * кеша и никогда не вытесняются. Таблицы для остальных зарплат хранятся в
+ * кеше ограниченного размера.
+ * </p>
+ *
+ * <p>Ключом служит зарплата без незначащих нулей, поэтому {@code 50000}
+ * и {@code 50000.00} используют одну таблицу.</p>
+ *
+ * <p>Кеш произвольных зарплат вытесняет записи по алгоритму «второго шанса» (CLOCK),
+ * приближающему LRU. Записи занимают кольцо из {@code cache-size} слотов, поиск
+ * выполняется по {@link ConcurrentHashMap} без блокировки, и попадание только
+ * выставляет у записи признак обращения. Добавление выполняется под блокировкой:
+ * стрелка продолжает обход кольца с места предыдущего вытеснения, сбрасывает
+ * признаки у пропускаемых записей и заменяет первую запись без признака. Новая
+ * запись добавляется без признака, поэтому однократно запрошенные зарплаты
+ * вытесняются раньше повторяющихся.</p>
+ *
+ * <p>Таблицы, добавленные синтетическими зарплатами прогрева, удаляются
+ * методом {@link #clearCachedTables()} после его завершения.</p>
+ *
+ * @see PayTable
+ * @see PayTableProperties
+ */
+@Slf4j
+@Component
+public class PayTableCache {
+    private final Map<BigDecimal, PayTable> gradeTables = new ConcurrentHashMap<>();
+    private final Map<BigDecimal, CachedTable> recentTables = new ConcurrentHashMap<>();
+    private final int cacheSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CachedTable[] slots;
+    private int used;
+    private int hand;
+
+    public PayTableCache(PayTableProperties properties) {
+        this.cacheSize = properties.getCacheSize();
+        this.slots = new CachedTable[Math.max(0, cacheSize)];
+
+        for (BigDecimal grade : properties.getGrades()) {
+            if (grade != null && grade.compareTo(BigDecimal.ZERO) > 0) {
+                gradeTables.put(key(grade), PayTable.calculate(grade));
+            }
+        }
+        log.info("Предрассчитано таблиц отпускных для грейдов: {}", gradeTables.size());
+    }
+
+    /**
+     * Возвращает таблицу отпускных из кеша либо рассчитывает и кеширует ее.
+     *
+     * @param averageSalary средняя заработная плата (должна быть больше нуля)
+     * @return таблица отпускных
+     */
+    public PayTable getOrCalculate(BigDecimal averageSalary) {
+        BigDecimal key = key(averageSalary);
+        PayTable table = gradeTables.get(key);
+        if (table != null) {
+            return table;
+        }
+        if (cacheSize <= 0) {
+            return PayTable.calculate(averageSalary);
+        }
+
+        CachedTable cached = recentTables.get(key);
+        if (cached != null) {
+            cached.markReferenced();
+            return cached.table;
+        }
+
+        // Таблица рассчитывается вне блокировки, под ней только перестраивается кольцо
+        table = PayTable.calculate(averageSalary);
+        lock.lock();
+        try {
+            cached = recentTables.get(key);
+            if (cached != null) {
+                return cached.table;
+            }
+            int slot = used < slots.length ? used++ : evictOne();
+            cached = new CachedTable(key, table);
+            slots[slot] = cached;
+            recentTables.put(key, cached);
+        } finally {
+            lock.unlock();
+        }
+        return table;
+    }
+
+    private int evictOne() {
+        // Не более двух оборотов: на первом могут быть сброшены признаки у всех записей
+        while (slots[hand].referenced) {
+            slots[hand].referenced = false;
+            hand = (hand + 1) % slots.length;
+        }
+        int victim = hand;
+        recentTables.remove(slots[victim].key);
+        hand = (hand + 1) % slots.length;
+        return victim;
+    }
+
+    /**
+     * Возвращает количество закешированных таблиц, не входящих в список грейдов.
+     *
+     * @return количество таблиц
+     */
+    public int getCachedTables() {
+        return recentTables.size();
+    }
+
+    /**
+     * Удаляет из кеша все таблицы, не входящие в список грейдов.
+     * Таблицы грейдов сохраняются.
+     */
+    public void clearCachedTables() {
+        lock.lock();
+        try {
+            recentTables.clear();
+            Arrays.fill(slots, null);
+            used = 0;
+            hand = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static BigDecimal key(BigDecimal averageSalary) {
+        return averageSalary.stripTrailingZeros();
+    }
+
+    private static final class CachedTable {
+        private final BigDecimal key;
+        private final PayTable table;
+        private volatile boolean referenced;
+
+        private CachedTable(BigDecimal key, PayTable table) {
+            this.key = key;
+            this.table = table;
+        }
+
+        private void markReferenced() {
+            // Запись только при смене значения: повторные попадания не пачкают строку кеша
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateBatchItemDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDatesRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByPeriodsRequestDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateByPeriodsResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.PayTableResponseDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+
+public interface VacationPaymentService {
+    /**
+     * Рассчитывает сумму отпускных выплат на основе количества дней отпуска.
+     * <p>
+     * Используется для расчета отпускных, когда известна только продолжительность
+     * отпуска в днях, без привязки к конкретным датам. Все указанные дни считаются
+     * оплачиваемыми.
+     * </p>
+     *
+     * <p>Пример использования:</p>
+     * <pre>
+     * CalculateByDaysRequestDTO request = new CalculateByDaysRequestDTO(
+     *     new BigDecimal("50000.00"),
+     *     14
+     * );
+     * CalculateResponseDTO response = vacationPaymentService.calculatePaymentWithNumberOfDays(request);
+     * // Результат: сумма отпускных за 14 дней
+     * </pre>
+     *
+     * @param request DTO запроса, содержащий среднюю зарплату и количество дней отпуска
+     * @return DTO ответа с рассчитанной суммой отпускных и информационным сообщением
+     * @throws com.example.vacationPayCalculator.exception.VacationCalculationException
+     *          если параметры запроса некорректны
+     */
+    CalculateResponseDTO calculatePaymentWithNumberOfDays(CalculateByDaysRequestDTO request);
+
+    /**
+     * Рассчитывает сумму отпускных выплат на основе конкретных дат отпуска.
+     * <p>
+     * Используется для точного расчета отпускных с учетом праздничных и выходных дней.
+     * Метод определяет количество рабочих дней в указанном периоде и рассчитывает
+     * выплаты только за эти дни.
+     * </p>
+     *
+     * <p>Пример использования:</p>
+     * <pre>
+     * CalculateByDatesRequestDTO request = new CalculateByDatesRequestDTO(
+     *     new BigDecimal("50000.00"),
+     *     LocalDate.of(2023, 6, 1),
+     *     LocalDate.of(2023, 6, 14)
+     * );
+     * CalculateResponseDTO response = vacationPaymentService.calculatePaymentWithDates(request);
+     * // Результат: сумма отпускных за рабочие дни в указанном периоде
+     * </pre>
+     *
+     * @param request DTO запроса, содержащий среднюю зарплату и даты отпуска
+     * @return DTO ответа с рассчитанной суммой отпускных и информационным сообщением
+     * @throws com.example.vacationPayCalculator.exception.VacationCalculationException
+     *          если параметры запроса некорректны или в периоде нет рабочих дней
+     */
+    CalculateResponseDTO calculatePaymentWithDates(CalculateByDatesRequestDTO request);
+
+    /**
+     * Рассчитывает таблицу отпускных выплат для всех допустимых продолжительностей отпуска.
+     * <p>
+     * Среднедневной заработок вычисляется один раз, после чего формируются суммы
+     * для отпуска от 1 до 28 дней. Каждая сумма совпадает с результатом
+     * {@link #calculatePaymentWithNumberOfDays(CalculateByDaysRequestDTO)} для того же количества дней.
+     * </p>
+     *
+     * <p>Пример использования:</p>
+     * <pre>
+     * PayTableResponseDTO table = vacationPaymentService.calculatePayTable(new BigDecimal("50000.00"));
+     * // table.getVacationPayAmounts().get(13) - сумма отпускных за 14 дней
+     * </pre>
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев
+     * @return DTO ответа с таблицей сумм отпускных
+     * @throws com.example.vacationPayCalculator.exception.VacationCalculationException
+     *          если зарплата некорректна
+     */
+    PayTableResponseDTO calculatePayTable(BigDecimal averageSalary);
+
+    /**
+     * Рассчитывает сумму отпускных для отпуска, разделенного на несколько периодов.
+     * <p>
+     * Периоды проверяются на пересечение, рабочие дни всех периодов подсчитываются
+     * за один проход по календарю, а ограничение в 28 дней проверяется для их суммы.
+     * Возвращается сумма для каждого периода и итог по общему количеству дней.
+     * </p>
+     *
+     * <p>Пример использования:</p>
+     * <pre>
+     * CalculateByPeriodsRequestDTO request = new CalculateByPeriodsRequestDTO(
+     *     new BigDecimal("50000.00"),
+     *     List.of(
+     *         new VacationPeriodDTO(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 14)),
+     *         new VacationPeriodDTO(LocalDate.of(2026, 12, 21), LocalDate.of(2026, 12, 27))
+     *     )
+     * );
+     * CalculateByPeriodsResponseDTO response = vacationPaymentService.calculatePaymentWithPeriods(request);
+     * </pre>
+     *
+     * @param request DTO запроса, содержащий среднюю зарплату и периоды отпуска
+     * @return DTO ответа с суммами по периодам и итоговой суммой отпускных
+     * @throws com.example.vacationPayCalculator.exception.VacationCalculationException
+     *          если периоды пересекаются, в периоде нет рабочих дней или превышен лимит дней
+     */
+    CalculateByPeriodsResponseDTO calculatePaymentWithPeriods(CalculateByPeriodsRequestDTO request);
+
+    /**
+     * Рассчитывает отпускные для пакета независимых элементов.
+     * <p>
+     * Каждый элемент рассчитывается по количеству дней или по датам, как
+     * {@link #calculatePaymentWithNumberOfDays(CalculateByDaysRequestDTO)} и
+     * {@link #calculatePaymentWithDates(CalculateByDatesRequestDTO)}. Ошибка в одном
+     * элементе не прерывает обработку пакета: для него возвращается результат
+     * без суммы с сообщением об ошибке.
+     * </p>
+     *
+     * <p>Пример использования:</p>
+     * <pre>
+     * List&lt;CalculateResponseDTO&gt; results = vacationPaymentService.calculateBatch(List.of(
+     *     new CalculateBatchItemDTO(new BigDecimal("50000.00"), 14, null, null),
+     *     new CalculateBatchItemDTO(new BigDecimal("50000.00"), null, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 14))
+     * ));
+     * </pre>
+     *
+     * @param items элементы пакета
+     * @return результаты в порядке элементов пакета
+     */
+    List<CalculateResponseDTO> calculateBatch(List<CalculateBatchItemDTO> items);
+}
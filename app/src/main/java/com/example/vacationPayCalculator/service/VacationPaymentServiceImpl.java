@@ -0,0 +1,209 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateBatchItemDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDatesRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByPeriodsRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.VacationPeriodDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateByPeriodsResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.PayTableResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.PeriodPaymentDTO;
+import com.example.vacationPayCalculator.calendar.DateRange;
+import com.example.vacationPayCalculator.engine.PayTable;
+import com.example.vacationPayCalculator.engine.VacationPayEngine;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.tracing.CalculationTracer;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Реализация сервиса расчета отпускных выплат.
+ * <p>
+ * Выполняет расчет отпускных выплат на основе средней заработной платы
+ * и количества дней отпуска. Поддерживает два режима расчета:
+ * <ol>
+ *   <li>По количеству дней (без учета конкретных дат)</li>
+ *   <li>По конкретным датам (с учетом праздников и выходных)</li>
+ * </ol>
+ * </p>
+ *
+ * <p>Расчетная формула:</p>
+ * <pre>
+ * Отпускные = (Средняя зарплата / 29.3) × Количество оплачиваемых дней
+ * </pre>
+ *
+ * <p>где 29.3 - среднемесячное количество календарных дней согласно Трудовому кодексу РФ.</p>
+ *
+ * <p>Арифметика и валидация выполняются движком {@link VacationPayEngine}; сервис
+ * преобразует DTO, использует кеш таблиц отпускных и размечает этапы трассировки.</p>
+ *
+ * @see VacationPaymentService
+ * @see VacationPayEngine
+ * @see CalendarService
+ * @see VacationCalculationException
+ */
+@Service
+public class VacationPaymentServiceImpl implements VacationPaymentService{
+    static final String OVERFLOW_MESSAGE = "Сумма отпускных выходит за допустимые пределы";
+
+    private final CalendarService calendarService;
+    private final PayTableCache payTableCache;
+
+    public VacationPaymentServiceImpl(CalendarService calendarService, PayTableCache payTableCache) {
+        this.calendarService = calendarService;
+        this.payTableCache = payTableCache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculateResponseDTO calculatePaymentWithNumberOfDays(CalculateByDaysRequestDTO request) {
+
+        int numberOfVacationDays = request.getNumberOfVacationDays();
+        BigDecimal averageSalary = request.getAverageSalary();
+
+        validateSalaryAndDays(averageSalary, numberOfVacationDays);
+        return calculatePayment(averageSalary, numberOfVacationDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculateResponseDTO calculatePaymentWithDates(CalculateByDatesRequestDTO request) {
+        BigDecimal averageSalary = request.getAverageSalary();
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+
+        int numberOfVacationDays = calendarService.getDaysBetweenDates(startDate, endDate);
+
+        validateSalaryAndDays(averageSalary, numberOfVacationDays);
+        return calculatePayment(averageSalary, numberOfVacationDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculateByPeriodsResponseDTO calculatePaymentWithPeriods(CalculateByPeriodsRequestDTO request) {
+        BigDecimal averageSalary = request.getAverageSalary();
+        List<VacationPeriodDTO> periods = request.getPeriods();
+        if (periods == null || periods.isEmpty()) {
+            throw new VacationCalculationException("Должен быть указан хотя бы один период отпуска");
+        }
+
+        List<DateRange> ranges = new ArrayList<>(periods.size());
+        for (VacationPeriodDTO period : periods) {
+            ranges.add(new DateRange(period.getStartDate(), period.getEndDate()));
+        }
+        int[] paidDays = calendarService.getDaysInPeriods(ranges);
+
+        int totalPaidDays = 0;
+        for (int days : paidDays) {
+            totalPaidDays += days;
+        }
+        validateSalaryAndDays(averageSalary, totalPaidDays);
+
+        List<PeriodPaymentDTO> periodPayments = new ArrayList<>(periods.size());
+        for (int i = 0; i < periods.size(); i++) {
+            VacationPeriodDTO period = periods.get(i);
+            periodPayments.add(new PeriodPaymentDTO(
+                    period.getStartDate(),
+                    period.getEndDate(),
+                    paidDays[i],
+                    calculatePayment(averageSalary, paidDays[i]).getVacationPayAmount()
+            ));
+        }
+
+        CalculateResponseDTO total = calculatePayment(averageSalary, totalPaidDays);
+        return new CalculateByPeriodsResponseDTO(periodPayments, totalPaidDays,
+                total.getVacationPayAmount(), total.getMessage());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PayTableResponseDTO calculatePayTable(BigDecimal averageSalary) {
+        VacationPayEngine.validateSalary(averageSalary);
+
+        PayTable table = payTableCache.getOrCalculate(averageSalary);
+        return new PayTableResponseDTO(averageSalary, table.getDailyEarnings(), table.getAmounts());
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CalculateResponseDTO> calculateBatch(List<CalculateBatchItemDTO> items) {
+        List<CalculateResponseDTO> results = new ArrayList<>(items.size());
+        for (CalculateBatchItemDTO item : items) {
+            try {
+                results.add(calculateBatchItem(item));
+            } catch (VacationCalculationException e) {
+                results.add(new CalculateResponseDTO(null, e.getMessage()));
+            } catch (ArithmeticException e) {
+                // Переполнение при крайних значениях зарплаты — ошибка элемента, а не всего пакета
+                results.add(new CalculateResponseDTO(null, OVERFLOW_MESSAGE));
+            }
+        }
+        return results;
+    }
+
+    private CalculateResponseDTO calculateBatchItem(CalculateBatchItemDTO item) {
+        boolean hasDates = item.getStartDate() != null || item.getEndDate() != null;
+        if (item.getNumberOfVacationDays() != null && !hasDates) {
+            return calculatePaymentWithNumberOfDays(
+                    new CalculateByDaysRequestDTO(item.getAverageSalary(), item.getNumberOfVacationDays()));
+        }
+        if (item.getNumberOfVacationDays() == null && hasDates) {
+            return calculatePaymentWithDates(
+                    new CalculateByDatesRequestDTO(item.getAverageSalary(), item.getStartDate(), item.getEndDate()));
+        }
+        throw new VacationCalculationException("Укажите либо количество дней отпуска, либо даты начала и окончания");
+    }
+
+    /**
+     * Выполняет расчет суммы отпускных выплат.
+     *
+     * <p>Формула расчета:</p>
+     * <pre>
+     * 1. Среднедневной заработок = Средняя зарплата / 29.3
+     * 2. Сумма отпускных = Среднедневной заработок × Количество дней отпуска
+     * </pre>
+     *
+     * <p>Расчет выполняется с высокой точностью (10 знаков после запятой)
+     * на промежуточных этапах, окончательный результат округляется до 2 знаков.</p>
+     *
+     * @param averageSalary средняя заработная плата
+     * @param numberOfVacationDays количество оплачиваемых дней отпуска
+     * @return DTO ответа с рассчитанной суммой и сообщением
+     */
+    public CalculateResponseDTO calculatePayment(BigDecimal averageSalary, int numberOfVacationDays) {
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.PAYMENT)) {
+            BigDecimal payment = VacationPayEngine.calculatePayment(averageSalary, numberOfVacationDays);
+
+            return new CalculateResponseDTO(payment, "Расчет выполнен успешно");
+        }
+    }
+
+    /**
+     * Выполняет валидацию входных параметров для расчета.
+     *
+     * @param averageSalary средняя заработная плата
+     * @param numberOfVacationDays количество дней отпуска
+     * @throws VacationCalculationException если параметры некорректны
+     */
+    private void validateSalaryAndDays(BigDecimal averageSalary, int numberOfVacationDays) {
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.VALIDATION)) {
+            VacationPayEngine.validateSalaryAndDays(averageSalary, numberOfVacationDays);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.vacationPayCalculator.tracing;
+
+import java.util.Arrays;
+
+/**
+ * Трассировка одного запроса расчета: набор вложенных span'ов с наносекундным временем.
+ * <p>
+ * Span'ы хранятся в параллельных массивах, а открытые span'ы закрываются
+ * в порядке стека, поэтому объект трассировки сам служит дескриптором
+ * {@link CalculationTracer.Span} и открытие span'а не выделяет память.
+ * </p>
+ *
+ * <p>Экземпляр используется одним потоком обработки запроса и не является потокобезопасным.</p>
+ *
+ * @see CalculationTracer
+ */
+public final class CalculationTrace implements CalculationTracer.Span {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String traceId;
+    private final long startEpochNanos;
+    private final long startNanos;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] openStack = new int[INITIAL_CAPACITY];
+    private int openCount;
+
+    private long dispatchedNanos = -1;
+    private long serializationStartNanos = -1;
+
+    CalculationTrace(String traceId, long startEpochNanos, long startNanos) {
+        this.traceId = traceId;
+        this.startEpochNanos = startEpochNanos;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Открывает вложенный span.
+     *
+     * @param name название этапа
+     * @return эта трассировка; вызов {@link #close()} закрывает последний открытый span
+     */
+    CalculationTrace open(String name) {
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        if (openCount == openStack.length) {
+            openStack = Arrays.copyOf(openStack, openCount * 2);
+        }
+        names[size] = name;
+        parents[size] = openCount > 0 ? openStack[openCount - 1] : -1;
+        starts[size] = System.nanoTime();
+        ends[size] = -1;
+        openStack[openCount++] = size;
+        size++;
+        return this;
+    }
+
+    /**
+     * Закрывает последний открытый span.
+     */
+    @Override
+    public void close() {
+        if (openCount > 0) {
+            ends[openStack[--openCount]] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Добавляет уже завершившийся span с явно заданными границами.
+     */
+    void record(String name, long start, long end) {
+        open(name);
+        starts[size - 1] = start;
+        ends[size - 1] = end;
+        openCount--;
+    }
+
+    void markDispatched() {
+        if (dispatchedNanos < 0) {
+            dispatchedNanos = System.nanoTime();
+        }
+    }
+
+    void markSerializationStart() {
+        serializationStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Завершает трассировку: закрывает открытые span'ы и добавляет этапы,
+     * границы которых известны только по отметкам времени — привязку параметров
+     * (от передачи запроса обработчику до входа в контроллер либо до начала
+     * Bean Validation тела запроса, если она выполнялась) и сериализацию ответа
+     * (от начала записи тела до завершения обработки).
+     */
+    void finish() {
+        long now = System.nanoTime();
+        long bindingEnd = getFirstStartNanos(CalculationTracer.HANDLER);
+        long beanValidationStart = getFirstStartNanos(CalculationTracer.VALIDATION);
+        if (dispatchedNanos >= 0 && beanValidationStart >= dispatchedNanos
+                && (bindingEnd < 0 || beanValidationStart < bindingEnd)) {
+            bindingEnd = beanValidationStart;
+        }
+        if (dispatchedNanos >= 0 && bindingEnd >= dispatchedNanos) {
+            record(CalculationTracer.BINDING, dispatchedNanos, bindingEnd);
+        }
+        if (serializationStartNanos >= 0) {
+            record(CalculationTracer.SERIALIZATION, serializationStartNanos, now);
+        }
+        while (openCount > 0) {
+            ends[openStack[--openCount]] = now;
+        }
+    }
+
+    /**
+     * Возвращает суммарную длительность span'ов с указанным названием.
+     *
+     * @param name название этапа
+     * @return длительность в наносекундах или {@code -1}, если этап не выполнялся
+     */
+    public long getDurationNanos(String name) {
+        long total = -1;
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name) && ends[i] >= 0) {
+                total = Math.max(total, 0) + ends[i] - starts[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает начало первого span'а с указанным названием.
+     *
+     * @param name название этапа
+     * @return время начала ({@link System#nanoTime()}) или {@code -1}
+     */
+    long getFirstStartNanos(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return starts[i];
+            }
+        }
+        return -1;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public int getParent(int index) {
+        return parents[index];
+    }
+
+    /**
+     * @return время начала span'а в наносекундах от эпохи Unix
+     */
+    public long getStartEpochNanos(int index) {
+        return startEpochNanos + (starts[index] - startNanos);
+    }
+
+    /**
+     * @return длительность span'а в наносекундах или {@code -1}, если span не закрыт
+     */
+    public long getDurationNanos(int index) {
+        return ends[index] < 0 ? -1 : ends[index] - starts[index];
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.vacationPayCalculator.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Точка входа для разметки этапов расчета span'ами.
+ * <p>
+ * Трассировка привязывается к потоку обработки запроса фильтром {@link TracingFilter}.
+ * Если запрос не попал в выборку, {@link #span(String)} возвращает общий пустой
+ * дескриптор, поэтому разметка в сервисах стоит одно чтение {@link ThreadLocal}.
+ * </p>
+ *
+ * <p>Пример использования:</p>
+ * <pre>
+ * try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.CALENDAR)) {
+ *     days = calendarService.getDaysBetweenDates(startDate, endDate);
+ * }
+ * </pre>
+ *
+ * @see CalculationTrace
+ * @see TracingFilter
+ */
+public final class CalculationTracer {
+    public static final String REQUEST = "request";
+    public static final String BINDING = "binding";
+    public static final String HANDLER = "handler";
+    public static final String VALIDATION = "validation";
+    public static final String CALENDAR = "calendar";
+    public static final String PAYMENT = "payment";
+    public static final String SERIALIZATION = "serialization";
+
+    /**
+     * Этапы, попадающие в отладочный заголовок с разбивкой времени.
+     */
+    static final String[] STAGES = {BINDING, VALIDATION, CALENDAR, PAYMENT, SERIALIZATION};
+
+    private static final ThreadLocal<CalculationTrace> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = () -> {
+    };
+
+    private CalculationTracer() {
+    }
+
+    /**
+     * Открывает span для текущего запроса.
+     *
+     * @param name название этапа
+     * @return дескриптор, закрывающий span; пустой, если запрос не трассируется
+     */
+    public static Span span(String name) {
+        CalculationTrace trace = CURRENT.get();
+        return trace == null ? NOOP : trace.open(name);
+    }
+
+    /**
+     * @return трассировка текущего запроса или {@code null}
+     */
+    public static CalculationTrace current() {
+        return CURRENT.get();
+    }
+
+    static CalculationTrace begin() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = String.format("%016x%016x", random.nextLong(), random.nextLong());
+        long epochNanos = System.currentTimeMillis() * 1_000_000L;
+        CalculationTrace trace = new CalculationTrace(traceId, epochNanos, System.nanoTime());
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Дескриптор открытого span'а.
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.vacationPayCalculator.tracing;
+
+import com.example.vacationPayCalculator.config.TracingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Выгрузка завершенных трассировок.
+ * <p>
+ * Каждая трассировка записывается одной строкой JSON со span'ами в терминах
+ * OpenTelemetry ({@code traceId}, {@code spanId}, {@code parentSpanId},
+ * {@code startTimeUnixNano}, {@code durationNanos}), поэтому файл можно
+ * загрузить в любой совместимый просмотрщик без коллектора в процессе.
+ * Если файл не задан, строки пишутся в журнал приложения.
+ * </p>
+ *
+ * @see TracingProperties#getFile()
+ */
+@Slf4j
+@Component
+public class TraceExporter {
+    private final BufferedWriter writer;
+
+    public TraceExporter(TracingProperties properties) {
+        this.writer = properties.getFile() == null ? null : openWriter(Path.of(properties.getFile()));
+    }
+
+    private static BufferedWriter openWriter(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось открыть файл трассировок " + file, e);
+        }
+    }
+
+    /**
+     * Выгружает трассировку. Ошибки записи журналируются и не влияют на обработку запроса.
+     *
+     * @param trace завершенная трассировка
+     */
+    public void export(CalculationTrace trace) {
+        String line = toJson(trace);
+        if (writer == null) {
+            log.info(line);
+            return;
+        }
+        synchronized (writer) {
+            try {
+                writer.write(line);
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                log.warn("Не удалось записать трассировку {}: {}", trace.getTraceId(), e.getMessage());
+            }
+        }
+    }
+
+    static String toJson(CalculationTrace trace) {
+        StringBuilder json = new StringBuilder(128 + trace.size() * 128);
+        json.append("{\"traceId\":\"").append(trace.getTraceId()).append("\",\"spans\":[");
+        for (int i = 0; i < trace.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"spanId\":\"").append(spanId(i)).append('"');
+            int parent = trace.getParent(i);
+            if (parent >= 0) {
+                json.append(",\"parentSpanId\":\"").append(spanId(parent)).append('"');
+            }
+            json.append(",\"name\":\"").append(trace.getName(i)).append('"')
+                    .append(",\"startTimeUnixNano\":").append(trace.getStartEpochNanos(i))
+                    .append(",\"durationNanos\":").append(trace.getDurationNanos(i))
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String spanId(int index) {
+        return String.format("%016x", index + 1);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (writer != null) {
+            synchronized (writer) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.vacationPayCalculator.tracing;
+
+import com.example.vacationPayCalculator.config.TracingProperties;
+import com.example.vacationPayCalculator.warmup.WarmupRequestFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Фильтр, трассирующий выборку запросов к API расчета.
+ * <p>
+ * Для запроса, попавшего в выборку ({@link TracingProperties#getSampleRate()}),
+ * открывает корневой span и после обработки выгружает трассировку через
+ * {@link TraceExporter}. Остальные запросы проходят без трассировки.
+ * </p>
+ *
+ * <p>Если разрешен отладочный заголовок и клиент передал
+ * {@code X-Debug-Timing: true}, запрос трассируется вне выборки, а ответ получает
+ * заголовок с разбивкой времени по этапам в наносекундах:</p>
+ * <pre>
+ * X-Calculation-Timing: binding=41200;validation=3100;calendar=18400;payment=9700;serialization=88000;total=265000
+ * </pre>
+ * <p>Тело такого ответа буферизуется, чтобы заголовок можно было добавить после сериализации.
+ * Поэтому отладочный заголовок учитывается только для расчетов ({@code /api/v1/calculate/**})
+ * кроме пакетного {@code /batch}: ответы пакетного расчета и результаты задач CSV могут
+ * занимать мегабайты. Такие запросы трассируются только в пределах выборки.</p>
+ *
+ * <p>Трассировки запросов прогрева ({@link WarmupRequestFilter}) не выгружаются.</p>
+ *
+ * @see CalculationTracer
+ * @see TracingProperties
+ */
+@Component
+public class TracingFilter extends OncePerRequestFilter {
+    private static final String API_PATH_PREFIX = "/api/v1/";
+    private static final String CALCULATE_PATH_PREFIX = "/api/v1/calculate/";
+    private static final String BATCH_PATH = "/api/v1/calculate/batch";
+
+    private final TracingProperties properties;
+    private final TraceExporter exporter;
+
+    public TracingFilter(TracingProperties properties, TraceExporter exporter) {
+        this.properties = properties;
+        this.exporter = exporter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean debug = properties.isDebugHeaderEnabled()
+                && "true".equalsIgnoreCase(request.getHeader(properties.getDebugRequestHeader()))
+                && isBufferable(request);
+        boolean sampled = properties.getSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+        if (!debug && !sampled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper bufferedResponse = debug ? new ContentCachingResponseWrapper(response) : null;
+        CalculationTrace trace = CalculationTracer.begin();
+        try {
+            trace.open(CalculationTracer.REQUEST);
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            trace.finish();
+            CalculationTracer.end();
+            if (sampled && !WarmupRequestFilter.isWarmupRequest(request)) {
+                exporter.export(trace);
+            }
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(properties.getTimingResponseHeader(), formatTiming(trace));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static boolean isBufferable(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(CALCULATE_PATH_PREFIX) && !path.startsWith(BATCH_PATH);
+    }
+
+    /**
+     * Формирует значение отладочного заголовка. Невыполнявшиеся этапы пропускаются.
+     */
+    static String formatTiming(CalculationTrace trace) {
+        StringBuilder timing = new StringBuilder(128);
+        for (String stage : CalculationTracer.STAGES) {
+            long duration = trace.getDurationNanos(stage);
+            if (duration >= 0) {
+                timing.append(stage).append('=').append(duration).append(';');
+            }
+        }
+        return timing.append("total=").append(trace.getDurationNanos(CalculationTracer.REQUEST)).toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.vacationPayCalculator.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Перехватчик, отмечающий момент передачи запроса обработчику.
+ * <p>
+ * Время от этой отметки до входа в метод контроллера трассировка
+ * относит к этапу привязки параметров ({@link CalculationTracer#BINDING}).
+ * Регистрируется последним, чтобы в этап не попадала работа других перехватчиков.
+ * </p>
+ *
+ * @see TracingFilter
+ */
+@Component
+public class TracingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CalculationTrace trace = CalculationTracer.current();
+        if (trace != null) {
+            trace.markDispatched();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.vacationPayCalculator.tracing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Отмечает начало сериализации тела ответа.
+ * <p>
+ * Вызывается непосредственно перед записью тела конвертером сообщений;
+ * время от этой отметки до завершения обработки трассировка относит
+ * к этапу {@link CalculationTracer#SERIALIZATION}. Тело ответа не изменяется.
+ * </p>
+ *
+ * @see TracingFilter
+ */
+@ControllerAdvice
+public class TracingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        CalculationTrace trace = CalculationTracer.current();
+        if (trace != null) {
+            trace.markSerializationStart();
+        }
+        return body;
+    }
+}
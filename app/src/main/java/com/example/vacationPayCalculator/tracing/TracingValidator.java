@@ -0,0 +1,54 @@
+package com.example.vacationPayCalculator.tracing;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Валидатор Spring MVC, размечающий Bean Validation ({@code @Valid}) span'ом
+ * {@link CalculationTracer#VALIDATION}.
+ * <p>
+ * Spring MVC проверяет тело запроса между чтением тела и вызовом контроллера,
+ * поэтому без разметки это время попадало бы в этап привязки параметров.
+ * {@link CalculationTrace#finish()} заканчивает этап привязки началом этого span'а.
+ * Сама проверка выполняется делегатом без изменений.
+ * </p>
+ *
+ * @see com.example.vacationPayCalculator.config.WebConfiguration#getValidator()
+ */
+public class TracingValidator implements SmartValidator {
+    private final SmartValidator delegate;
+
+    public TracingValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.VALIDATION)) {
+            delegate.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        try (CalculationTracer.Span span = CalculationTracer.span(CalculationTracer.VALIDATION)) {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.vacationPayCalculator.warmup;
+
+/**
+ * Определяет момент стабилизации JIT-компиляции по замерам суммарного времени компиляции.
+ * <p>
+ * Каждый замер сравнивается с предыдущим: интервал считается стабильным, если
+ * прирост не превышает порога. Компиляция стабилизировалась, когда стабильными
+ * оказались заданное количество интервалов подряд; интервал с заметной
+ * компиляцией сбрасывает счет.
+ * </p>
+ *
+ * <p>Класс не потокобезопасен: замеры передает один поток прогрева.</p>
+ */
+public class CompilationStability {
+    private final long thresholdMillis;
+    private final int requiredIntervals;
+
+    private long previousMillis;
+    private int stableIntervals;
+
+    /**
+     * @param initialMillis суммарное время компиляции в начале прогрева
+     * @param thresholdMillis допустимый прирост за стабильный интервал
+     * @param requiredIntervals количество стабильных интервалов подряд
+     */
+    public CompilationStability(long initialMillis, long thresholdMillis, int requiredIntervals) {
+        this.previousMillis = initialMillis;
+        this.thresholdMillis = thresholdMillis;
+        this.requiredIntervals = Math.max(1, requiredIntervals);
+    }
+
+    /**
+     * Учитывает очередной замер.
+     *
+     * @param totalCompilationMillis суммарное время компиляции на конец интервала
+     * @return {@code true}, если компиляция стабилизировалась
+     */
+    public boolean record(long totalCompilationMillis) {
+        if (totalCompilationMillis - previousMillis <= thresholdMillis) {
+            stableIntervals++;
+        } else {
+            stableIntervals = 0;
+        }
+        previousMillis = totalCompilationMillis;
+        return stableIntervals >= requiredIntervals;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.vacationPayCalculator.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Фильтр, помечающий запросы прогрева атрибутом запроса {@link #WARMUP_ATTRIBUTE}.
+ * <p>
+ * Запрос считается запросом прогрева, если {@link WarmupRunner} выполняет прогрев
+ * и запрос содержит его токен. Ограничители и трассировка проверяют атрибут
+ * методом {@link #isWarmupRequest(ServletRequest)}, не завися от {@link WarmupRunner}:
+ * синтетические запросы прогрева не должны снижать адаптивный лимит, расходовать
+ * квоты клиентов и попадать в выгружаемые трассировки.
+ * </p>
+ *
+ * <p>Атрибут доступен только веб-слою. Сервисы и кеши запрос не получают: их счетчики
+ * и записи после прогрева сбрасывает {@link WarmupRunner}.</p>
+ *
+ * <p>Фильтр выполняется раньше остальных фильтров приложения, чтобы атрибут
+ * был виден уже в {@code TracingFilter}.</p>
+ *
+ * @see WarmupRunner
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class WarmupRequestFilter extends OncePerRequestFilter {
+    public static final String WARMUP_ATTRIBUTE = WarmupRequestFilter.class.getName() + ".warmup";
+
+    private final WarmupRunner warmupRunner;
+
+    public WarmupRequestFilter(WarmupRunner warmupRunner) {
+        this.warmupRunner = warmupRunner;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (warmupRunner.isWarmupRequest(request)) {
+            request.setAttribute(WARMUP_ATTRIBUTE, Boolean.TRUE);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Проверяет, помечен ли запрос как запрос прогрева.
+     *
+     * @param request HTTP-запрос
+     * @return {@code true} для запроса прогрева
+     */
+    public static boolean isWarmupRequest(ServletRequest request) {
+        return request.getAttribute(WARMUP_ATTRIBUTE) != null;
+    }
+}
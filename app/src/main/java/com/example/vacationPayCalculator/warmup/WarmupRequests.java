@@ -0,0 +1,110 @@
+package com.example.vacationPayCalculator.warmup;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Синтетическая смесь запросов прогрева.
+ * <p>
+ * Покрывает все операции {@code /api/v1/calculate}: расчет по дням и по датам,
+ * таблицу отпускных, расчет по периодам, пакетный расчет в обоих видах ответа,
+ * а также ошибки валидации, чтобы JIT скомпилировал и путь обработки ошибок.
+ * Даты берутся из текущего и следующего года, где лежат реальные запросы.
+ * </p>
+ */
+final class WarmupRequests {
+    private static final String CALCULATE = "/api/v1/calculate";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final int BATCH_ITEMS = 50;
+
+    private WarmupRequests() {
+    }
+
+    /**
+     * Формирует очередной запрос смеси.
+     *
+     * @param random генератор потока прогрева
+     * @param baseUrl адрес приложения
+     * @return построитель запроса, к которому остается добавить заголовки
+     */
+    static HttpRequest.Builder next(SplittableRandom random, String baseUrl) {
+        int pick = random.nextInt(100);
+        if (pick < 35) {
+            return get(baseUrl + CALCULATE + "/days?averageSalary=" + salary(random)
+                    + "&numberOfVacationDays=" + random.nextInt(1, 29));
+        }
+        if (pick < 65) {
+            LocalDate startDate = date(random);
+            return get(baseUrl + CALCULATE + "/dates?averageSalary=" + salary(random)
+                    + "&startDate=" + startDate + "&endDate=" + startDate.plusDays(random.nextInt(28)));
+        }
+        if (pick < 75) {
+            return get(baseUrl + CALCULATE + "/days/table?averageSalary=" + salary(random));
+        }
+        if (pick < 85) {
+            return post(baseUrl + CALCULATE + "/periods", periodsBody(random));
+        }
+        if (pick < 90) {
+            return post(baseUrl + CALCULATE + "/batch" + (random.nextBoolean() ? "?format=columnar" : ""),
+                    batchBody(random));
+        }
+        return get(baseUrl + CALCULATE + "/days?averageSalary=" + salary(random)
+                + "&numberOfVacationDays=" + random.nextInt(29, 100));
+    }
+
+    private static HttpRequest.Builder get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT).GET();
+    }
+
+    private static HttpRequest.Builder post(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String periodsBody(SplittableRandom random) {
+        StringBuilder body = new StringBuilder("{\"averageSalary\":").append(salary(random)).append(",\"periods\":[");
+        LocalDate startDate = date(random);
+        for (int i = random.nextInt(1, 4); i > 0; i--) {
+            LocalDate endDate = startDate.plusDays(random.nextInt(7));
+            body.append("{\"startDate\":\"").append(startDate).append("\",\"endDate\":\"").append(endDate).append("\"}");
+            if (i > 1) {
+                body.append(',');
+            }
+            startDate = endDate.plusDays(random.nextInt(1, 60));
+        }
+        return body.append("]}").toString();
+    }
+
+    private static String batchBody(SplittableRandom random) {
+        StringBuilder body = new StringBuilder(BATCH_ITEMS * 80).append("{\"items\":[");
+        for (int i = 0; i < BATCH_ITEMS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"averageSalary\":").append(salary(random));
+            if (random.nextBoolean()) {
+                body.append(",\"numberOfVacationDays\":").append(random.nextInt(1, 29));
+            } else {
+                LocalDate startDate = date(random);
+                body.append(",\"startDate\":\"").append(startDate)
+                        .append("\",\"endDate\":\"").append(startDate.plusDays(random.nextInt(28))).append('"');
+            }
+            body.append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static String salary(SplittableRandom random) {
+        int rubles = random.nextInt(20_000, 300_000);
+        return random.nextBoolean() ? String.valueOf(rubles) : rubles + "." + random.nextInt(10, 100);
+    }
+
+    private static LocalDate date(SplittableRandom random) {
+        return LocalDate.now().withDayOfYear(1).plusDays(random.nextInt(730));
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.vacationPayCalculator.warmup;
+
+import com.example.vacationPayCalculator.config.WarmupProperties;
+import com.example.vacationPayCalculator.service.CalendarService;
+import com.example.vacationPayCalculator.service.PayTableCache;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Прогрев приложения перед открытием приема трафика.
+ * <p>
+ * Новый экземпляр первые тысячи запросов выполняет в интерпретаторе, что дает
+ * всплеск p99 при каждом масштабировании. Раннер отправляет приложению
+ * синтетические запросы через настоящий HTTP-стек (Tomcat, фильтры, Jackson,
+ * {@code CalculateController}, {@code VacationPaymentServiceImpl}, {@code CalendarService}),
+ * пока суммарное время JIT-компиляции не перестанет расти, но не дольше
+ * {@code vacation.warmup.max-duration}.
+ * </p>
+ *
+ * <p>Раннеры выполняются до события {@code ApplicationReadyEvent}, после которого
+ * Spring Boot переводит готовность в {@link ReadinessState#ACCEPTING_TRAFFIC}.
+ * Поэтому на время прогрева готовность остается {@link ReadinessState#REFUSING_TRAFFIC},
+ * и проба готовности ({@code /api/v1/health/readiness}) отвечает {@code 503}.</p>
+ *
+ * <p>Запросы прогрева несут случайный токен, созданный при запуске, в заголовке
+ * {@value #TOKEN_HEADER}. Пока идет прогрев, {@link WarmupRequestFilter} помечает их
+ * атрибутом запроса, по которому ограничители частоты и одновременности и выгрузка
+ * трассировок их пропускают.</p>
+ *
+ * <p>Сервисы о запросах прогрева не знают. После завершения прогрева раннер обнуляет
+ * счетчик {@link CalendarService#getPaidDayQueries()} и удаляет из {@link PayTableCache}
+ * таблицы синтетических зарплат, чтобы они не искажали метрики и не занимали кеш.</p>
+ *
+ * @see WarmupProperties
+ * @see CompilationStability
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+    public static final String TOKEN_HEADER = "X-Warmup-Token";
+
+    private static final String LOCAL_SERVER_PORT = "local.server.port";
+    private static final long TERMINATION_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Состояние прогрева.
+     */
+    public enum State {
+        DISABLED, PENDING, RUNNING, COMPLETED
+    }
+
+    private final WarmupProperties properties;
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CalendarService calendarService;
+    private final PayTableCache payTableCache;
+    private final String token;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile State state;
+    private volatile long startNanos;
+    private volatile long durationNanos;
+    private volatile long compilationMillis = -1;
+    private volatile boolean stabilized;
+
+    public WarmupRunner(WarmupProperties properties, Environment environment,
+                        ApplicationEventPublisher eventPublisher,
+                        CalendarService calendarService, PayTableCache payTableCache) {
+        this.properties = properties;
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.calendarService = calendarService;
+        this.payTableCache = payTableCache;
+        this.state = properties.isEnabled() ? State.PENDING : State.DISABLED;
+
+        byte[] tokenBytes = new byte[16];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HexFormat.of().formatHex(tokenBytes);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!properties.isEnabled()) {
+            log.info("Прогрев при запуске отключен");
+            return;
+        }
+        String port = environment.getProperty(LOCAL_SERVER_PORT);
+        if (port == null) {
+            log.warn("Прогрев пропущен: веб-сервер не запущен");
+            state = State.DISABLED;
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        warmUp("http://localhost:" + port);
+    }
+
+    private void warmUp(String baseUrl) throws InterruptedException {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean monitored = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long initialCompilationMillis = monitored ? compilation.getTotalCompilationTime() : 0;
+        CompilationStability stability = new CompilationStability(initialCompilationMillis,
+                properties.getStableCompilationTime().toMillis(), properties.getStableIntervals());
+        if (!monitored) {
+            log.warn("JVM не сообщает время JIT-компиляции: прогрев продлится {}", properties.getMaxDuration());
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        AtomicBoolean stop = new AtomicBoolean();
+        int threads = Math.max(1, properties.getThreads());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Прогрев: {} потоков, не дольше {}", threads, properties.getMaxDuration());
+        startNanos = System.nanoTime();
+        state = State.RUNNING;
+        try {
+            for (int i = 0; i < threads; i++) {
+                SplittableRandom random = new SplittableRandom(i);
+                executor.execute(() -> sendRequests(client, baseUrl, random, stop));
+            }
+
+            long deadline = startNanos + properties.getMaxDuration().toNanos();
+            long checkIntervalMillis = Math.max(1, properties.getCheckInterval().toMillis());
+            for (long now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+                Thread.sleep(Math.max(1, Math.min(checkIntervalMillis, TimeUnit.NANOSECONDS.toMillis(deadline - now))));
+                if (monitored && stability.record(compilation.getTotalCompilationTime())) {
+                    stabilized = true;
+                    break;
+                }
+            }
+        } finally {
+            stop.set(true);
+            executor.shutdown();
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+            durationNanos = System.nanoTime() - startNanos;
+            if (monitored) {
+                compilationMillis = compilation.getTotalCompilationTime() - initialCompilationMillis;
+            }
+            calendarService.resetPaidDayQueries();
+            payTableCache.clearCachedTables();
+            state = State.COMPLETED;
+        }
+
+        log.info("Прогрев завершен за {} мс: {} запросов, ошибок {}, JIT-компиляция {} мс{}",
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), requests.sum(), errors.sum(), compilationMillis,
+                stabilized ? ", стабилизировалась" : ", не стабилизировалась");
+    }
+
+    private void sendRequests(HttpClient client, String baseUrl, SplittableRandom random, AtomicBoolean stop) {
+        while (!stop.get()) {
+            try {
+                int status = client.send(
+                        WarmupRequests.next(random, baseUrl).header(TOKEN_HEADER, token).build(),
+                        HttpResponse.BodyHandlers.discarding()
+                ).statusCode();
+                if (status >= 500) {
+                    errors.increment();
+                }
+            } catch (IOException e) {
+                errors.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            requests.increment();
+        }
+    }
+
+    /**
+     * Проверяет, отправлен ли запрос прогревом, который сейчас выполняется.
+     *
+     * @param request входящий HTTP-запрос
+     * @return {@code true}, если идет прогрев и запрос содержит его токен
+     */
+    public boolean isWarmupRequest(HttpServletRequest request) {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        String header = request.getHeader(TOKEN_HEADER);
+        return header != null && MessageDigest.isEqual(
+                token.getBytes(StandardCharsets.US_ASCII), header.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return продолжительность прогрева в миллисекундах; во время прогрева — прошедшее время
+     */
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(state == State.RUNNING ? System.nanoTime() - startNanos : durationNanos);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return время JIT-компиляции за прогрев в миллисекундах; {@code -1}, если неизвестно
+     */
+    public long getCompilationMillis() {
+        return compilationMillis;
+    }
+
+    public boolean isStabilized() {
+        return stabilized;
+    }
+}
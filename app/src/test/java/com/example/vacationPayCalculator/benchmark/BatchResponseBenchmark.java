@@ -0,0 +1,121 @@
+package com.example.vacationPayCalculator.benchmark;
+
+import com.example.vacationPayCalculator.DTO.response.CalculateBatchColumnarResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateBatchResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.engine.VacationPayEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JMH-бенчмарк кодирования ответа пакетного расчета на {@value #ITEMS} элементов.
+ * <p>
+ * Сравнивает построчный ({@link CalculateBatchResponseDTO}) и колоночный
+ * ({@link CalculateBatchColumnarResponseDTO}) вид ответа: время сериализации в JSON
+ * и сжатия gzip, которое выполняет сервер при {@code server.compression.enabled}.
+ * Размеры ответа без сжатия и со сжатием печатаются при подготовке каждого вида.
+ * Задержку через HTTP/1.1 и HTTP/2 на работающем приложении измеряет
+ * {@link com.example.vacationPayCalculator.loadtest.BatchPayloadProbe}.
+ * </p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BatchResponseBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchResponseBenchmark {
+    static final int ITEMS = 10_000;
+
+    @Param({"rows", "columnar"})
+    public String shape;
+
+    private JsonMapper jsonMapper;
+    private Object response;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.builder().build();
+        List<CalculateResponseDTO> results = results(ITEMS);
+        response = shape.equals("columnar")
+                ? CalculateBatchColumnarResponseDTO.from(results)
+                : new CalculateBatchResponseDTO(results);
+
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        System.out.printf("%nРазмер ответа (%s, %d элементов): %d байт, gzip: %d байт%n",
+                shape, ITEMS, json.length, gzip(json).length);
+    }
+
+    /**
+     * Формирует результаты расчета: случайные зарплаты и продолжительности,
+     * около 2% элементов — ошибки валидации.
+     */
+    static List<CalculateResponseDTO> results(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<CalculateResponseDTO> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal averageSalary = BigDecimal.valueOf(random.nextInt(20_000, 300_000));
+            if (random.nextInt(50) == 0) {
+                results.add(new CalculateResponseDTO(null, "Отпуск не может быть больше 28 дней"));
+            } else {
+                results.add(new CalculateResponseDTO(
+                        VacationPayEngine.calculatePayment(averageSalary, random.nextInt(1, 29)),
+                        "Расчет выполнен успешно"));
+            }
+        }
+        return results;
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(jsonMapper.writeValueAsBytes(response));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BatchResponseBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.vacationPayCalculator.benchmark;
+
+import com.example.vacationPayCalculator.config.ConcurrencyLimitProperties;
+import com.example.vacationPayCalculator.ratelimit.AdaptiveConcurrencyLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-бенчмарк накладных расходов {@link AdaptiveConcurrencyLimiter} на запрос:
+ * занятие слота и его освобождение с корректировкой лимита.
+ * <p>
+ * Лимит задан с запасом, поэтому очередь пуста и измеряется основной путь
+ * ненагруженного сервиса.
+ * </p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main ConcurrencyLimiterBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrencyLimiterBenchmark {
+    private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(256);
+        properties.setMaxLimit(256);
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Benchmark
+    public boolean acquireRelease() {
+        boolean acquired = limiter.tryAcquire();
+        limiter.release(LATENCY_NANOS);
+        return acquired;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean acquireReleaseContended() {
+        boolean acquired = limiter.tryAcquire();
+        limiter.release(LATENCY_NANOS);
+        return acquired;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConcurrencyLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.vacationPayCalculator.benchmark;
+
+import com.example.vacationPayCalculator.config.HolidayConfiguration;
+import com.example.vacationPayCalculator.service.CalendarService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-бенчмарк подсчета оплачиваемых дней для аналитической выгрузки.
+ * <p>
+ * Сравнивает поштучные вызовы {@link CalendarService#getDaysBetweenDates(LocalDate, LocalDate)}
+ * для каждого диапазона (объекты {@link LocalDate}, проверки и трассировка на каждый вызов)
+ * с пакетным {@link CalendarService#countPaidDays(int[], int[])} по битовой карте. Набор диапазонов — каждый месяц пятилетнего горизонта
+ * для {@value #EMPLOYEES} сотрудников; результат нормирован на один диапазон.
+ * </p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main PaidDayCountBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaidDayCountBenchmark {
+    private static final int EMPLOYEES = 1_000;
+    private static final int YEARS = 5;
+    private static final int FIRST_YEAR = 2024;
+    private static final int RANGES = EMPLOYEES * YEARS * 12;
+
+    private CalendarService calendarService;
+    private LocalDate[] startDates;
+    private LocalDate[] endDates;
+    private int[] startEpochDays;
+    private int[] endEpochDays;
+
+    @Setup
+    public void setUp() {
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int year = FIRST_YEAR; year < FIRST_YEAR + YEARS; year++) {
+            for (int day = 1; day <= 8; day++) {
+                holidays.add(LocalDate.of(year, 1, day));
+            }
+            holidays.add(LocalDate.of(year, 2, 23));
+            holidays.add(LocalDate.of(year, 3, 8));
+            holidays.add(LocalDate.of(year, 5, 1));
+            holidays.add(LocalDate.of(year, 5, 9));
+            holidays.add(LocalDate.of(year, 6, 12));
+            holidays.add(LocalDate.of(year, 11, 4));
+        }
+        HolidayConfiguration configuration = new HolidayConfiguration();
+        configuration.setHolidays(holidays);
+        calendarService = new CalendarService(configuration);
+
+        startDates = new LocalDate[RANGES];
+        endDates = new LocalDate[RANGES];
+        startEpochDays = new int[RANGES];
+        endEpochDays = new int[RANGES];
+        int index = 0;
+        for (int employee = 0; employee < EMPLOYEES; employee++) {
+            for (int month = 0; month < YEARS * 12; month++) {
+                YearMonth yearMonth = YearMonth.of(FIRST_YEAR, 1).plusMonths(month);
+                startDates[index] = yearMonth.atDay(1);
+                endDates[index] = yearMonth.atEndOfMonth();
+                startEpochDays[index] = (int) startDates[index].toEpochDay();
+                endEpochDays[index] = (int) endDates[index].toEpochDay();
+                index++;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RANGES)
+    public long perCallLoop() {
+        long total = 0;
+        for (int i = 0; i < RANGES; i++) {
+            total += calendarService.getDaysBetweenDates(startDates[i], endDates[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RANGES)
+    public int[] bulkBitmap() {
+        return calendarService.countPaidDays(startEpochDays, endEpochDays);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PaidDayCountBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
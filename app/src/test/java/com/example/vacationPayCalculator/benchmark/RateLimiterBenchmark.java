@@ -0,0 +1,107 @@
+package com.example.vacationPayCalculator.benchmark;
+
+import com.example.vacationPayCalculator.config.RateLimitProperties;
+import com.example.vacationPayCalculator.ratelimit.ClientRateLimiter;
+import com.example.vacationPayCalculator.ratelimit.RequestLane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-бенчмарк накладных расходов {@link ClientRateLimiter} на принятый запрос.
+ * <p>
+ * Лимиты заданы заведомо большими, чтобы все запросы принимались и измерялся
+ * именно путь допуска: поиск корзины клиента и операция CAS.
+ * Ожидаемое время — десятки наносекунд на операцию.
+ * </p>
+ *
+ * <p>Сценарий {@link #rotatingClients()} воспроизводит перебор идентификаторов клиентов:
+ * реестр заполнен, и почти каждый запрос приходит от нового клиента.</p>
+ *
+ * <p>Запуск (JMH запускает замер в отдельной JVM, поэтому нужен {@code exec:exec}
+ * с явным classpath, а не {@code exec:java}):</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main RateLimiterBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final int CLIENTS = 1_000;
+    private static final int ROTATING_CLIENTS = 100_000;
+
+    private ClientRateLimiter rateLimiter;
+    private String[] clientIds;
+    private String[] rotatingClientIds;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setInteractive(new RateLimitProperties.Bucket(Integer.MAX_VALUE / 2, 1.0e9));
+        properties.setMaxTrackedClients(CLIENTS);
+        rateLimiter = new ClientRateLimiter(properties);
+
+        clientIds = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIds[i] = "client-" + i;
+        }
+        rotatingClientIds = new String[ROTATING_CLIENTS];
+        for (int i = 0; i < ROTATING_CLIENTS; i++) {
+            rotatingClientIds[i] = "rotating-" + i;
+        }
+    }
+
+    @Benchmark
+    public long singleClient() {
+        return rateLimiter.tryAcquire(clientIds[0], RequestLane.INTERACTIVE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long singleClientContended() {
+        return rateLimiter.tryAcquire(clientIds[0], RequestLane.INTERACTIVE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long manyClients() {
+        String clientId = clientIds[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return rateLimiter.tryAcquire(clientId, RequestLane.INTERACTIVE);
+    }
+
+    /**
+     * Каждый запрос приходит с новым идентификатором клиента при заполненном реестре.
+     */
+    @Benchmark
+    @Threads(4)
+    public long rotatingClients() {
+        String clientId = rotatingClientIds[ThreadLocalRandom.current().nextInt(ROTATING_CLIENTS)];
+        return rateLimiter.tryAcquire(clientId, RequestLane.INTERACTIVE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
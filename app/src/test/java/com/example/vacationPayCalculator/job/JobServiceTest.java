@@ -0,0 +1,275 @@
+package com.example.vacationPayCalculator.job;
+
+import com.example.vacationPayCalculator.config.HolidayConfiguration;
+import com.example.vacationPayCalculator.config.JobProperties;
+import com.example.vacationPayCalculator.config.PayTableProperties;
+import com.example.vacationPayCalculator.exception.JobNotFinishedException;
+import com.example.vacationPayCalculator.exception.JobNotFoundException;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.service.CalendarService;
+import com.example.vacationPayCalculator.service.PayTableCache;
+import com.example.vacationPayCalculator.service.VacationPaymentService;
+import com.example.vacationPayCalculator.service.VacationPaymentServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Модульные тесты для класса {@link JobService}.
+ * <p>
+ * Задачи выполняются настоящим {@link VacationPaymentServiceImpl} с пустым
+ * календарем, файлы задач создаются во временном каталоге.
+ * </p>
+ *
+ * @see JobService
+ * @see JobStore
+ */
+public class JobServiceTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    private JobProperties properties;
+    private JobStore store;
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JobProperties();
+        properties.setDirectory(tempDir.toString());
+        properties.setWorkerThreads(1);
+        properties.setCheckpointInterval(2);
+        createService();
+    }
+
+    private void createService() {
+        createService(new VacationPaymentServiceImpl(new CalendarService(new HolidayConfiguration()),
+                new PayTableCache(new PayTableProperties())));
+    }
+
+    private void createService(VacationPaymentService paymentService) {
+        store = new JobStore(properties);
+        jobService = new JobService(store, paymentService, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        jobService.shutdown();
+    }
+
+    @Test
+    void shouldProcessAllRowsAndRecordRowErrors() throws Exception {
+        //Given
+        String csv = "averageSalary,days\n"
+                + "50000,14\n"
+                + "\n"
+                + "# комментарий\n"
+                + "75000,2026-06-01,2026-06-03\n"
+                + "50000,30\n"
+                + "abc,1\n";
+
+        //When
+        CalculationJob submitted = jobService.submit(upload(csv));
+        CalculationJob job = awaitFinished(submitted.getId());
+
+        //Then
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getTotalRows());
+        assertEquals(4, job.getProcessedRows());
+        assertEquals(2, job.getFailedRows());
+
+        List<String> results = Files.readAllLines(jobService.getResultFile(job.getId()));
+        assertEquals(5, results.size());
+        assertEquals(JobService.RESULT_HEADER, results.get(0));
+        assertEquals("1,OK,23890.78,", results.get(1));
+        assertEquals("2,OK,7679.18,", results.get(2));
+        assertEquals("3,ERROR,,\"Отпуск не может быть больше 28 дней\"", results.get(3));
+        assertTrue(results.get(4).startsWith("4,ERROR,,"));
+    }
+
+    @Test
+    void shouldResumeFromCheckpointAfterRestart() throws Exception {
+        //Given: задача прервана после первой строки, в результатах осталась недописанная строка
+        CalculationJob job = store.create(upload("50000,14\n50000,7\n"));
+        String checkpointed = JobService.RESULT_HEADER + System.lineSeparator()
+                + "1,OK,23890.78," + System.lineSeparator();
+        Files.writeString(store.getResultFile(job.getId()), checkpointed + "2,OK,99", StandardCharsets.UTF_8);
+        job.setStatus(JobStatus.RUNNING);
+        job.setProcessedRows(1);
+        job.setResultBytes(checkpointed.getBytes(StandardCharsets.UTF_8).length);
+        store.save(job);
+
+        //When
+        jobService.resumeUnfinishedJobs();
+        CalculationJob resumed = awaitFinished(job.getId());
+
+        //Then
+        assertEquals(JobStatus.COMPLETED, resumed.getStatus());
+        assertEquals(2, resumed.getProcessedRows());
+        assertEquals(
+                List.of(JobService.RESULT_HEADER, "1,OK,23890.78,", "2,OK,11945.39,"),
+                Files.readAllLines(store.getResultFile(job.getId()))
+        );
+    }
+
+    @Test
+    void shouldResumeMoreJobsThanQueueCapacity() throws Exception {
+        //Given
+        properties.setMaxQueuedJobs(1);
+        jobService.shutdown();
+        createService();
+        List<String> jobIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            jobIds.add(store.create(upload("50000,14\n")).getId());
+        }
+
+        //When
+        jobService.resumeUnfinishedJobs();
+
+        //Then
+        for (String jobId : jobIds) {
+            assertEquals(JobStatus.COMPLETED, awaitFinished(jobId).getStatus());
+        }
+    }
+
+    @Test
+    void shouldRecordOverflowAsRowError() throws Exception {
+        //Given
+        String csv = "1e-2147483647,14\n50000,14\n";
+
+        //When
+        CalculationJob job = awaitFinished(jobService.submit(upload(csv)).getId());
+
+        //Then
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getFailedRows());
+        List<String> results = Files.readAllLines(jobService.getResultFile(job.getId()));
+        assertTrue(results.get(1).startsWith("1,ERROR,,"));
+        assertEquals("2,OK,23890.78,", results.get(2));
+    }
+
+    @Test
+    void shouldCheckpointOnShutdownAndResumeAfterRestart() throws Exception {
+        //Given: расчет пятой строки ожидает прерывания потока, как при остановке приложения
+        int rows = 10;
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        VacationPaymentServiceImpl paymentService =
+                spy(new VacationPaymentServiceImpl(new CalendarService(new HolidayConfiguration()),
+                        new PayTableCache(new PayTableProperties())));
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 5) {
+                blocked.countDown();
+                while (!Thread.currentThread().isInterrupted()) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+            }
+            return invocation.callRealMethod();
+        }).when(paymentService).calculatePaymentWithNumberOfDays(any());
+        jobService.shutdown();
+        createService(paymentService);
+        CalculationJob submitted = jobService.submit(upload("50000,14\n".repeat(rows)));
+        assertTrue(blocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        //When
+        jobService.shutdown();
+        CalculationJob interrupted = jobService.getJob(submitted.getId());
+        createService();
+        jobService.resumeUnfinishedJobs();
+        CalculationJob resumed = awaitFinished(submitted.getId());
+
+        //Then
+        assertEquals(JobStatus.RUNNING, interrupted.getStatus());
+        assertEquals(5, interrupted.getProcessedRows());
+        assertEquals(JobStatus.COMPLETED, resumed.getStatus());
+        assertEquals(rows, resumed.getProcessedRows());
+        List<String> results = Files.readAllLines(store.getResultFile(submitted.getId()));
+        assertEquals(rows + 1, results.size());
+        for (int row = 1; row <= rows; row++) {
+            assertEquals(row + ",OK,23890.78,", results.get(row));
+        }
+    }
+
+    @Test
+    void shouldRemoveOnlyExpiredFinishedJobs() throws Exception {
+        //Given
+        properties.setRetention(Duration.ofDays(7));
+        CalculationJob expired = awaitFinished(jobService.submit(upload("50000,14\n")).getId());
+        expired.setUpdatedAt(LocalDateTime.now().minusDays(8));
+        store.save(expired);
+        CalculationJob recent = awaitFinished(jobService.submit(upload("50000,14\n")).getId());
+        CalculationJob queued = store.create(upload("50000,14\n"));
+        queued.setUpdatedAt(LocalDateTime.now().minusDays(8));
+        store.save(queued);
+
+        //When
+        int removed = jobService.removeExpiredJobs();
+
+        //Then
+        assertEquals(1, removed);
+        assertFalse(Files.exists(tempDir.resolve(expired.getId())));
+        assertThrows(JobNotFoundException.class, () -> jobService.getJob(expired.getId()));
+        assertEquals(JobStatus.COMPLETED, jobService.getJob(recent.getId()).getStatus());
+        assertEquals(JobStatus.QUEUED, jobService.getJob(queued.getId()).getStatus());
+    }
+
+    @Test
+    void shouldRejectEmptyFile() {
+        //When & Then
+        assertThrows(VacationCalculationException.class, () -> jobService.submit(upload("averageSalary,days\n")));
+    }
+
+    @Test
+    void shouldThrowForUnknownJob() {
+        //When & Then
+        assertThrows(JobNotFoundException.class, () -> jobService.getJob("00000000-0000-0000-0000-000000000000"));
+        assertThrows(JobNotFoundException.class, () -> jobService.getJob("../../etc"));
+    }
+
+    @Test
+    void shouldNotReturnResultsOfUnfinishedJob() throws IOException {
+        //Given
+        CalculationJob job = store.create(upload("50000,14\n"));
+
+        //When & Then
+        assertThrows(JobNotFinishedException.class, () -> jobService.getResultFile(job.getId()));
+    }
+
+    private CalculationJob awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        CalculationJob job = jobService.getJob(jobId);
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = jobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static ByteArrayInputStream upload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
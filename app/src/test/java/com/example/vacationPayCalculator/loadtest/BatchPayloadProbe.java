@@ -0,0 +1,130 @@
+package com.example.vacationPayCalculator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замер размера и задержки ответа пакетного расчета на работающем приложении.
+ * <p>
+ * Отправляет один и тот же пакет ({@code loadtest.batchItems} элементов) на
+ * {@code /api/v1/calculate/batch} для каждого сочетания протокола (HTTP/1.1, HTTP/2 h2c),
+ * вида ответа (построчный, колоночный) и кодирования ({@code identity}, {@code gzip}).
+ * Для каждого сочетания печатаются размер тела ответа в том виде, в каком оно пришло
+ * по сети, и перцентили задержки от отправки запроса до получения всего тела.
+ * </p>
+ *
+ * <p>Запуск (приложение уже запущено):</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.vacationPayCalculator.loadtest.BatchPayloadProbe
+ * </pre>
+ *
+ * <p>Параметры (системные свойства):</p>
+ * <ul>
+ *   <li>{@code loadtest.baseUrl} — адрес приложения (по умолчанию {@code http://localhost:8080})</li>
+ *   <li>{@code loadtest.batchItems} — количество элементов в пакете (10000)</li>
+ *   <li>{@code loadtest.batchRequests} — количество замеряемых запросов на сочетание (50)</li>
+ * </ul>
+ *
+ * <p>HTTP/2 без TLS устанавливается заголовком {@code Upgrade: h2c} на первом запросе
+ * клиента; фактическая версия протокола ответа печатается рядом с результатом.</p>
+ */
+public class BatchPayloadProbe {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int WARMUP_REQUESTS = 5;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int items = Integer.getInteger("loadtest.batchItems", 10_000);
+        int requests = Integer.getInteger("loadtest.batchRequests", 50);
+        String body = batchBody(items);
+        System.out.printf("Пакет: %d элементов, тело запроса %d байт%n", items, body.length());
+
+        for (HttpClient.Version version : HttpClient.Version.values()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(version)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/metrics/concurrency")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+
+            for (String format : new String[]{"rows", "columnar"}) {
+                for (String encoding : new String[]{"identity", "gzip"}) {
+                    probe(client, baseUrl, body, format, encoding, requests);
+                }
+            }
+        }
+    }
+
+    private static void probe(HttpClient client, String baseUrl, String body, String format,
+                              String encoding, int requests) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/calculate/batch?format=" + format))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept-Encoding", encoding)
+                .header("X-API-Key", "load-test")
+                .header("X-Request-Priority", "bulk")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        Histogram histogram = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        long responseBytes = 0;
+        int errors = 0;
+        HttpClient.Version responseVersion = null;
+        for (int i = 0; i < WARMUP_REQUESTS + requests; i++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long end = System.nanoTime();
+            if (i < WARMUP_REQUESTS) {
+                continue;
+            }
+            if (response.statusCode() != 200) {
+                errors++;
+                continue;
+            }
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(end - start), MAX_TRACKABLE_MICROS));
+            responseBytes = response.body().length;
+            responseVersion = response.version();
+        }
+
+        System.out.printf("%-8s %-8s %-8s: ответ %d байт, задержка, мкс: p50=%d p99=%d max=%d, ошибок %d%n",
+                responseVersion, format, encoding, responseBytes,
+                histogram.getValueAtPercentile(50.0),
+                histogram.getValueAtPercentile(99.0),
+                histogram.getMaxValue(),
+                errors);
+    }
+
+    /**
+     * Формирует пакет: половина элементов по количеству дней, половина — по датам.
+     */
+    static String batchBody(int items) {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder body = new StringBuilder(items * 80).append("{\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"averageSalary\":").append(random.nextInt(20_000, 300_000));
+            if (random.nextBoolean()) {
+                body.append(",\"numberOfVacationDays\":").append(random.nextInt(1, 29));
+            } else {
+                LocalDate start = LocalDate.of(2027, 1, 1).plusDays(random.nextInt(700));
+                body.append(",\"startDate\":\"").append(start)
+                        .append("\",\"endDate\":\"").append(start.plusDays(random.nextInt(7, 28))).append('"');
+            }
+            body.append('}');
+        }
+        return body.append("]}").toString();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.vacationPayCalculator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замер задержки в первую минуту после открытия приема трафика.
+ * <p>
+ * Ждет, пока проба готовности {@code /api/v1/health/readiness} не ответит {@code 200},
+ * и сразу запускает виртуальных пользователей со смесью запросов {@link LoadTestHarness}
+ * (без отдельного прогрева). Задержки собираются по окнам, поэтому видно, как p99
+ * меняется по мере JIT-компиляции. Как и в профиле {@code load-test}, приложение
+ * запускается без ограничения частоты и HTTP-кеширования; для сравнения с прогревом
+ * и без него замер выполняется дважды:
+ * </p>
+ * <pre>
+ * java -jar app/target/Vacation-Pay-Calculator-0.0.1-SNAPSHOT.jar \
+ *     --vacation.rate-limit.enabled=false --vacation.http-cache.enabled=false --vacation.warmup.enabled=false
+ * java -jar app/target/Vacation-Pay-Calculator-0.0.1-SNAPSHOT.jar \
+ *     --vacation.rate-limit.enabled=false --vacation.http-cache.enabled=false
+ * </pre>
+ *
+ * <p>Запуск (сразу после старта приложения, до его готовности):</p>
+ * <pre>
+ * mvn install -DskipTests
+ * mvn -pl app test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.vacationPayCalculator.loadtest.ColdStartProbe
+ * </pre>
+ *
+ * <p>Параметры (системные свойства):</p>
+ * <ul>
+ *   <li>{@code loadtest.baseUrl} — адрес приложения (по умолчанию {@code http://localhost:8080})</li>
+ *   <li>{@code loadtest.users} — количество виртуальных пользователей (16)</li>
+ *   <li>{@code loadtest.durationSeconds} — продолжительность замера (60)</li>
+ *   <li>{@code loadtest.windowSeconds} — ширина окна отчета (10)</li>
+ * </ul>
+ */
+public class ColdStartProbe {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration READINESS_TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int users = Integer.getInteger("loadtest.users", 16);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        int windowSeconds = Integer.getInteger("loadtest.windowSeconds", 10);
+        int windows = (durationSeconds + windowSeconds - 1) / windowSeconds;
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        long readyAfterMillis = awaitReadiness(client, baseUrl);
+        System.out.printf("Приложение готово через %d мс ожидания%n", readyAfterMillis);
+
+        long start = System.nanoTime();
+        long windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            List<Future<Histogram[]>> futures = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                long seed = 31L * user + 17;
+                futures.add(executor.submit(() -> runUser(client, baseUrl, seed, start, end, windowNanos, windows)));
+            }
+
+            Histogram[] total = newHistograms(windows);
+            for (Future<Histogram[]> future : futures) {
+                Histogram[] histograms = future.get();
+                for (int i = 0; i < windows; i++) {
+                    total[i].add(histograms[i]);
+                }
+            }
+            for (int i = 0; i < windows; i++) {
+                System.out.printf("%3d–%3d с: запросов %d, задержка, мкс: p50=%d p99=%d max=%d%n",
+                        i * windowSeconds, Math.min((i + 1) * windowSeconds, durationSeconds),
+                        total[i].getTotalCount(),
+                        total[i].getValueAtPercentile(50.0),
+                        total[i].getValueAtPercentile(99.0),
+                        total[i].getMaxValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long awaitReadiness(HttpClient client, String baseUrl) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        long deadline = start + READINESS_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException e) {
+                // приложение еще не слушает порт
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Приложение не стало готовым за " + READINESS_TIMEOUT);
+    }
+
+    private static Histogram[] runUser(HttpClient client, String baseUrl, long seed,
+                                       long start, long end, long windowNanos, int windows) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Histogram[] histograms = newHistograms(windows);
+        LoadTestHarness.RequestKind[] kinds = LoadTestHarness.RequestKind.values();
+
+        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+            LoadTestHarness.RequestKind kind = kinds[random.nextInt(kinds.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + kind.path(random)))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("X-API-Key", "load-test")
+                    .GET()
+                    .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - now);
+            int window = (int) Math.min(windows - 1, (now - start) / windowNanos);
+            histograms[window].recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+        }
+        return histograms;
+    }
+
+    private static Histogram[] newHistograms(int count) {
+        Histogram[] histograms = new Histogram[count];
+        for (int i = 0; i < count; i++) {
+            histograms[i] = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.vacationPayCalculator.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Нагрузочный тест REST API расчета отпускных с проверкой регрессии производительности.
+ * <p>
+ * Запускает заданное число виртуальных пользователей, каждый из которых в замкнутом
+ * цикле отправляет смесь запросов {@code /days}, {@code /dates} и заведомо некорректных
+ * запросов. Задержки записываются в HDR-гистограммы, после прогрева собираются
+ * пропускная способность и перцентили задержки.
+ * </p>
+ *
+ * <p>Результат сравнивается с сохраненным базовым замером. Если p99 выросла
+ * или пропускная способность упала сильнее допустимого порога, метод {@link #main}
+ * завершается исключением и сборка падает. Если базового замера нет
+ * (или задано {@code -Dloadtest.updateBaseline=true}), текущий замер сохраняется
+ * как базовый.</p>
+ *
+ * <p>Запуск вместе с приложением:</p>
+ * <pre>
+ * mvn -Pload-test verify
+ * </pre>
+ *
+ * <p>Параметры (системные свойства):</p>
+ * <ul>
+ *   <li>{@code loadtest.baseUrl} — адрес приложения (по умолчанию {@code http://localhost:8080})</li>
+ *   <li>{@code loadtest.users} — количество виртуальных пользователей (16)</li>
+ *   <li>{@code loadtest.warmupSeconds} / {@code loadtest.durationSeconds} — прогрев и замер (10 / 30)</li>
+ *   <li>{@code loadtest.mix} — веса запросов {@code days:dates:invalid} ({@code 45:45:10})</li>
+ *   <li>{@code loadtest.baseline} — файл базового замера</li>
+ *   <li>{@code loadtest.maxP99RegressionPercent} — допустимый рост p99 (20)</li>
+ *   <li>{@code loadtest.maxThroughputRegressionPercent} — допустимое падение пропускной способности (10)</li>
+ *   <li>{@code loadtest.maxErrorRatePercent} — допустимая доля неожиданных ответов (0.1)</li>
+ * </ul>
+ *
+ * <p>Замер выполняется в замкнутом цикле, поэтому при насыщении сервера
+ * задержки занижаются (coordinated omission); для сравнения с базовым
+ * замером на той же машине этого достаточно.</p>
+ */
+public class LoadTestHarness {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String baseUrl;
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int[] mix;
+    private final HttpClient client;
+
+    public LoadTestHarness(String baseUrl, int users, Duration warmup, Duration duration, int[] mix) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestHarness harness = new LoadTestHarness(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.users", 16),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30)),
+                parseMix(System.getProperty("loadtest.mix", "45:45:10"))
+        );
+
+        Result result = harness.run();
+        result.print(System.out);
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "target/loadtest"));
+        result.writeHistogram(reportDir.resolve("latency.hgrm"));
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRatePercent", "0.1"));
+        if (result.errorRatePercent() > maxErrorRate) {
+            throw new IllegalStateException(String.format(
+                    "Доля неожиданных ответов %.3f%% превышает порог %.3f%%", result.errorRatePercent(), maxErrorRate));
+        }
+
+        Path baselineFile = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.properties"));
+        if (Boolean.getBoolean("loadtest.updateBaseline") || !Files.exists(baselineFile)) {
+            result.saveBaseline(baselineFile);
+            System.out.println("Базовый замер сохранен: " + baselineFile);
+            return;
+        }
+
+        Baseline baseline = Baseline.load(baselineFile);
+        baseline.check(result,
+                Double.parseDouble(System.getProperty("loadtest.maxP99RegressionPercent", "20")),
+                Double.parseDouble(System.getProperty("loadtest.maxThroughputRegressionPercent", "10")));
+        System.out.println("Регрессии относительно базового замера не обнаружено");
+    }
+
+    /**
+     * Выполняет прогрев и замер.
+     *
+     * @return результаты замера
+     */
+    public Result run() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            long warmupEnd = System.nanoTime() + warmup.toNanos();
+            long measureEnd = warmupEnd + duration.toNanos();
+
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                long seed = 31L * user + 17;
+                futures.add(executor.submit(() -> runUser(seed, warmupEnd, measureEnd)));
+            }
+
+            Result total = new Result(duration);
+            for (Future<Result> future : futures) {
+                total.add(future.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result runUser(long seed, long warmupEnd, long measureEnd) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Result result = new Result(duration);
+        int totalWeight = mix[0] + mix[1] + mix[2];
+
+        while (true) {
+            int pick = random.nextInt(totalWeight);
+            RequestKind kind = pick < mix[0] ? RequestKind.DAYS
+                    : pick < mix[0] + mix[1] ? RequestKind.DATES
+                    : RequestKind.INVALID;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + kind.path(random)))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("X-API-Key", "load-test")
+                    .GET()
+                    .build();
+
+            long start = System.nanoTime();
+            if (start >= measureEnd) {
+                return result;
+            }
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            long end = System.nanoTime();
+
+            if (start >= warmupEnd) {
+                result.record(TimeUnit.NANOSECONDS.toMicros(end - start), status == kind.expectedStatus());
+            }
+        }
+    }
+
+    private static int[] parseMix(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Смесь запросов задается как days:dates:invalid, например 45:45:10");
+        }
+        int[] mix = new int[3];
+        for (int i = 0; i < 3; i++) {
+            mix[i] = Integer.parseInt(parts[i].trim());
+        }
+        if (mix[0] + mix[1] + mix[2] <= 0) {
+            throw new IllegalArgumentException("Сумма весов смеси запросов должна быть больше нуля");
+        }
+        return mix;
+    }
+
+    /**
+     * Виды запросов в нагрузочной смеси.
+     */
+    enum RequestKind {
+        DAYS(200) {
+            @Override
+            String path(SplittableRandom random) {
+                return "/api/v1/calculate/days?averageSalary=" + salary(random)
+                        + "&numberOfVacationDays=" + random.nextInt(1, 29);
+            }
+        },
+        DATES(200) {
+            @Override
+            String path(SplittableRandom random) {
+                LocalDate start = LocalDate.of(2027, 1, 1).plusDays(random.nextInt(700));
+                LocalDate end = start.plusDays(random.nextInt(14, 28));
+                return "/api/v1/calculate/dates?averageSalary=" + salary(random)
+                        + "&startDate=" + start + "&endDate=" + end;
+            }
+        },
+        INVALID(400) {
+            @Override
+            String path(SplittableRandom random) {
+                return "/api/v1/calculate/days?averageSalary=" + salary(random)
+                        + "&numberOfVacationDays=" + random.nextInt(29, 100);
+            }
+        };
+
+        private final int expectedStatus;
+
+        RequestKind(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+
+        abstract String path(SplittableRandom random);
+
+        int expectedStatus() {
+            return expectedStatus;
+        }
+
+        private static String salary(SplittableRandom random) {
+            return String.valueOf(random.nextInt(20_000, 300_000));
+        }
+    }
+
+    /**
+     * Результаты замера: гистограмма задержек и счетчики ответов.
+     */
+    public static class Result {
+        private final Histogram histogram = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        private final Duration duration;
+        private long requests;
+        private long errors;
+
+        Result(Duration duration) {
+            this.duration = duration;
+        }
+
+        void record(long latencyMicros, boolean expected) {
+            histogram.recordValue(Math.min(latencyMicros, MAX_TRACKABLE_MICROS));
+            requests++;
+            if (!expected) {
+                errors++;
+            }
+        }
+
+        void add(Result other) {
+            histogram.add(other.histogram);
+            requests += other.requests;
+            errors += other.errors;
+        }
+
+        public double throughput() {
+            return requests / (duration.toMillis() / 1000.0);
+        }
+
+        public long p99Micros() {
+            return histogram.getValueAtPercentile(99.0);
+        }
+
+        public double errorRatePercent() {
+            return requests == 0 ? 100.0 : errors * 100.0 / requests;
+        }
+
+        void print(PrintStream out) {
+            out.printf("Запросов: %d, неожиданных ответов: %d (%.3f%%)%n", requests, errors, errorRatePercent());
+            out.printf("Пропускная способность: %.1f запросов/с%n", throughput());
+            out.printf("Задержка, мкс: p50=%d p90=%d p99=%d p99.9=%d max=%d%n",
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+
+        void writeHistogram(Path file) throws IOException {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1.0);
+            }
+        }
+
+        void saveBaseline(Path file) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("throughput", String.format(Locale.ROOT, "%.1f", throughput()));
+            properties.setProperty("p99Micros", String.valueOf(p99Micros()));
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Базовый замер нагрузочного теста (LoadTestHarness)");
+            }
+        }
+    }
+
+    /**
+     * Сохраненный базовый замер.
+     */
+    record Baseline(double throughput, long p99Micros) {
+
+        static Baseline load(Path file) throws IOException {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            return new Baseline(
+                    Double.parseDouble(properties.getProperty("throughput")),
+                    Long.parseLong(properties.getProperty("p99Micros")));
+        }
+
+        void check(Result result, double maxP99RegressionPercent, double maxThroughputRegressionPercent) {
+            double p99Limit = p99Micros * (1 + maxP99RegressionPercent / 100);
+            double throughputLimit = throughput * (1 - maxThroughputRegressionPercent / 100);
+            List<String> regressions = new ArrayList<>();
+            if (result.p99Micros() > p99Limit) {
+                regressions.add(String.format("p99 %d мкс превышает базовые %d мкс более чем на %.0f%%",
+                        result.p99Micros(), p99Micros, maxP99RegressionPercent));
+            }
+            if (result.throughput() < throughputLimit) {
+                regressions.add(String.format("пропускная способность %.1f запросов/с ниже базовой %.1f более чем на %.0f%%",
+                        result.throughput(), throughput, maxThroughputRegressionPercent));
+            }
+            if (!regressions.isEmpty()) {
+                throw new IllegalStateException("Регрессия производительности: " + String.join("; ", regressions));
+            }
+        }
+    }
+}
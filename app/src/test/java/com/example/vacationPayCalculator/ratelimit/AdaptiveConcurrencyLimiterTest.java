@@ -0,0 +1,155 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для класса {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * Проверяют изменение лимита по схеме AIMD, отклонение при заполненной очереди
+ * и поведение под насыщающей нагрузкой: число одновременно выполняемых запросов
+ * не превышает лимит, лишние запросы отклоняются, а ожидание принятых ограничено.
+ * </p>
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long MILLISECOND = 1_000_000L;
+
+    private static ConcurrencyLimitProperties properties(int initialLimit, int minLimit, int maxLimit,
+                                                         int maxQueueSize, long maxQueueWaitMillis) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(minLimit);
+        properties.setMaxLimit(maxLimit);
+        properties.setMaxQueueSize(maxQueueSize);
+        properties.setMaxQueueWait(Duration.ofMillis(maxQueueWaitMillis));
+        properties.setTargetLatency(Duration.ofMillis(100));
+        return properties;
+    }
+
+    @Test
+    void shouldDecreaseLimitOncePerTargetLatencyWhenSlow() {
+        //Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20, 4, 100, 0, 0));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        long now = System.nanoTime();
+
+        //When: три медленных ответа в пределах одной целевой задержки
+        limiter.release(500 * MILLISECOND, now);
+        limiter.release(500 * MILLISECOND, now + MILLISECOND);
+        limiter.release(500 * MILLISECOND, now + 2 * MILLISECOND);
+
+        //Then
+        assertEquals(18, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldIncreaseLimitWhenFastAndUtilized() {
+        //Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(4, 4, 100, 0, 0));
+
+        //When: несколько окон полностью загруженного лимита с быстрыми ответами
+        for (int window = 0; window < 10; window++) {
+            int slots = limiter.getLimit();
+            for (int i = 0; i < slots; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < slots; i++) {
+                limiter.release(MILLISECOND);
+            }
+        }
+
+        //Then
+        assertTrue(limiter.getLimit() > 4, "Лимит должен вырасти, получено " + limiter.getLimit());
+    }
+
+    @Test
+    void shouldShedImmediatelyWhenQueueFull() {
+        //Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(2, 2, 2, 0, 50));
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+
+        //When
+        long start = System.nanoTime();
+        boolean acquired = limiter.tryAcquire();
+        long elapsed = System.nanoTime() - start;
+
+        //Then
+        assertFalse(acquired);
+        assertEquals(1, limiter.getShed());
+        assertTrue(elapsed < 10 * MILLISECOND, "Отклонение должно быть немедленным");
+    }
+
+    @Test
+    void shouldBoundConcurrencyAndQueueWaitUnderSaturation() throws InterruptedException {
+        //Given: 64 клиента против лимита 8 и очереди 8 с ожиданием не более 20 мс
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(8, 8, 8, 8, 20));
+        int clients = 64;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicLong maxAcceptedWait = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        //When
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        if (!limiter.tryAcquire()) {
+                            LockSupport.parkNanos(MILLISECOND);
+                            continue;
+                        }
+                        long waited = System.nanoTime() - start;
+                        maxAcceptedWait.accumulateAndGet(waited, Math::max);
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } finally {
+                            running.decrementAndGet();
+                            limiter.release(System.nanoTime() - start);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        //Then
+        assertTrue(maxRunning.get() <= 8, "Одновременно выполнялось " + maxRunning.get());
+        assertTrue(limiter.getShed() > 0, "При насыщении часть запросов должна отклоняться");
+        assertTrue(limiter.getAccepted() > 0);
+        assertTrue(maxAcceptedWait.get() < 200 * MILLISECOND,
+                "Ожидание принятого запроса ограничено очередью, получено "
+                        + TimeUnit.NANOSECONDS.toMillis(maxAcceptedWait.get()) + " мс");
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+}
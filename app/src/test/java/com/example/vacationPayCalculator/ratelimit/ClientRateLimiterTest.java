@@ -0,0 +1,84 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import com.example.vacationPayCalculator.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для класса {@link ClientRateLimiter}.
+ * <p>
+ * Время передается явно, поэтому тесты не зависят от скорости выполнения.
+ * </p>
+ *
+ * @see ClientRateLimiter
+ */
+public class ClientRateLimiterTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final int MAX_TRACKED_CLIENTS = 3;
+
+    private RateLimitProperties properties;
+    private ClientRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setInteractive(new RateLimitProperties.Bucket(1, 1.0));
+        properties.setMaxTrackedClients(MAX_TRACKED_CLIENTS);
+        properties.setEvictionInterval(Duration.ofSeconds(10));
+        rateLimiter = new ClientRateLimiter(properties);
+    }
+
+    @Test
+    void shouldNotTrackMoreClientsThanLimit_WhenClientIdsRotate() {
+        //When
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.tryAcquire("client-" + i, RequestLane.INTERACTIVE, 0);
+        }
+
+        //Then
+        assertEquals(MAX_TRACKED_CLIENTS, rateLimiter.getTrackedClients(RequestLane.INTERACTIVE));
+    }
+
+    @Test
+    void shouldShareOverflowBucket_WhenRegistryIsFull() {
+        //Given
+        for (int i = 0; i < MAX_TRACKED_CLIENTS; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("client-" + i, RequestLane.INTERACTIVE, 0));
+        }
+
+        //When
+        long firstNewClient = rateLimiter.tryAcquire("new-1", RequestLane.INTERACTIVE, 0);
+        long secondNewClient = rateLimiter.tryAcquire("new-2", RequestLane.INTERACTIVE, 0);
+
+        //Then
+        assertEquals(0, firstNewClient);
+        assertTrue(secondNewClient > 0, "Новые клиенты сверх лимита должны делить одну корзину");
+        assertEquals(0, rateLimiter.tryAcquire("client-0", RequestLane.INTERACTIVE, SECOND),
+                "Отслеживаемые клиенты сохраняют собственные корзины");
+    }
+
+    @Test
+    void shouldEvictIdleBucketsAtMostOncePerInterval() {
+        //Given
+        for (int i = 0; i < MAX_TRACKED_CLIENTS; i++) {
+            rateLimiter.tryAcquire("client-" + i, RequestLane.INTERACTIVE, 0);
+        }
+        rateLimiter.tryAcquire("new-1", RequestLane.INTERACTIVE, 0);
+
+        //When
+        rateLimiter.tryAcquire("new-2", RequestLane.INTERACTIVE, 5 * SECOND);
+        int trackedBeforeInterval = rateLimiter.getTrackedClients(RequestLane.INTERACTIVE);
+        rateLimiter.tryAcquire("new-3", RequestLane.INTERACTIVE, 10 * SECOND);
+
+        //Then
+        assertEquals(MAX_TRACKED_CLIENTS, trackedBeforeInterval,
+                "До истечения интервала реестр не должен очищаться повторно");
+        assertEquals(1, rateLimiter.getTrackedClients(RequestLane.INTERACTIVE),
+                "После очистки в реестре должен остаться только новый клиент");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.vacationPayCalculator.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для класса {@link TokenBucket}.
+ * <p>
+ * Время передается явно, поэтому тесты не зависят от скорости выполнения.
+ * </p>
+ *
+ * @see TokenBucket
+ */
+public class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldAcceptBurstUpToCapacity() {
+        //Given
+        TokenBucket bucket = new TokenBucket(3, 1.0);
+
+        //When & Then
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND, bucket.tryAcquire(0), "Четвертый запрос должен ждать одну секунду");
+    }
+
+    @Test
+    void shouldRefillTokensOverTime() {
+        //Given
+        TokenBucket bucket = new TokenBucket(1, 2.0);
+        assertEquals(0, bucket.tryAcquire(0));
+
+        //When & Then
+        assertEquals(SECOND / 4, bucket.tryAcquire(SECOND / 4));
+        assertEquals(0, bucket.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void shouldReportFullBucketAfterIdlePeriod() {
+        //Given
+        TokenBucket bucket = new TokenBucket(2, 1.0);
+        assertTrue(bucket.isFull(0));
+        bucket.tryAcquire(0);
+
+        //When & Then
+        assertFalse(bucket.isFull(SECOND / 2));
+        assertTrue(bucket.isFull(SECOND));
+    }
+
+    @Test
+    void shouldThrowException_WhenParametersInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.vacationPayCalculator.schedule;
+
+import com.example.vacationPayCalculator.DTO.request.ScheduleEntryDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleLoadResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.ScheduleSummaryResponseDTO;
+import com.example.vacationPayCalculator.calendar.HolidayBitmap;
+import com.example.vacationPayCalculator.config.HolidayConfiguration;
+import com.example.vacationPayCalculator.config.PayTableProperties;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import com.example.vacationPayCalculator.service.CalendarService;
+import com.example.vacationPayCalculator.service.PayTableCache;
+import com.example.vacationPayCalculator.service.VacationPaymentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Модульные тесты для класса {@link VacationScheduleStore}.
+ * <p>
+ * Агрегаты по окну сверяются с построчным расчетом через
+ * {@link VacationPaymentServiceImpl#calculatePayment(BigDecimal, int)}.
+ * </p>
+ *
+ * @see VacationScheduleStore
+ */
+public class VacationScheduleStoreTest {
+    private static final LocalDate NEW_YEAR = LocalDate.of(2026, 1, 1);
+
+    private List<LocalDate> holidays;
+    private CalendarService calendarService;
+    private VacationPaymentServiceImpl paymentService;
+    private VacationScheduleStore store;
+
+    @BeforeEach
+    void setUp() {
+        HolidayConfiguration configuration = new HolidayConfiguration();
+        holidays = new ArrayList<>();
+        for (int day = 0; day < 8; day++) {
+            holidays.add(NEW_YEAR.plusDays(day));
+        }
+        holidays.add(LocalDate.of(2026, 5, 1));
+        holidays.add(LocalDate.of(2026, 5, 9));
+        configuration.setHolidays(holidays);
+
+        calendarService = new CalendarService(configuration);
+        paymentService = new VacationPaymentServiceImpl(calendarService, new PayTableCache(new PayTableProperties()));
+        store = new VacationScheduleStore(calendarService, paymentService);
+    }
+
+    @Test
+    void shouldAggregateClippedIntervalsInWindow() {
+        //Given
+        store.load(List.of(
+                new ScheduleEntryDTO(1L, new BigDecimal("50000"), LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 11)),
+                new ScheduleEntryDTO(2L, new BigDecimal("75000"), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 18)),
+                new ScheduleEntryDTO(1L, new BigDecimal("50000"), LocalDate.of(2026, 2, 2), LocalDate.of(2026, 2, 8))
+        ));
+
+        //When
+        ScheduleSummaryResponseDTO summary = store.summarize(NEW_YEAR, LocalDate.of(2026, 1, 31), true);
+
+        //Then: 1 — 9..11 января (3 дня), 2 — 9..18 января (10 дней)
+        assertEquals(2, summary.getVacationIntervals());
+        assertEquals(2, summary.getEmployees());
+        assertEquals(13, summary.getPaidDays());
+        assertEquals(paymentService.calculatePayment(new BigDecimal("50000"), 3).getVacationPayAmount()
+                        .add(paymentService.calculatePayment(new BigDecimal("75000"), 10).getVacationPayAmount()),
+                summary.getVacationPayAmount());
+        assertEquals(paymentService.calculatePayment(new BigDecimal("50000"), 6).getVacationPayAmount()
+                        .add(paymentService.calculatePayment(new BigDecimal("75000"), 10).getVacationPayAmount()),
+                summary.getIntervalVacationPayAmount());
+        assertArrayEquals(new long[]{1L, 2L}, summary.getEmployeeIds());
+    }
+
+    @Test
+    void shouldMatchPerRowCalculationOnRandomSchedule() {
+        //Given
+        Random random = new Random(7);
+        List<ScheduleEntryDTO> entries = new ArrayList<>();
+        for (long employee = 0; employee < 500; employee++) {
+            LocalDate start = NEW_YEAR.plusDays(8 + random.nextInt(340));
+            BigDecimal salary = BigDecimal.valueOf(20_000 + random.nextInt(200_000), random.nextInt(3));
+            entries.add(new ScheduleEntryDTO(employee, salary, start, start.plusDays(random.nextInt(20))));
+        }
+        ScheduleLoadResponseDTO loaded = store.load(entries);
+
+        for (int query = 0; query < 50; query++) {
+            LocalDate from = NEW_YEAR.plusDays(random.nextInt(365));
+            LocalDate to = from.plusDays(random.nextInt(60));
+
+            //When
+            ScheduleSummaryResponseDTO summary = store.summarize(from, to, false);
+
+            //Then
+            int intervals = 0;
+            long paidDays = 0;
+            BigDecimal amount = BigDecimal.ZERO.setScale(2);
+            Set<Long> employees = new TreeSet<>();
+            for (ScheduleEntryDTO entry : entries) {
+                if (entry.getEndDate().isBefore(from) || entry.getStartDate().isAfter(to)) {
+                    continue;
+                }
+                LocalDate start = entry.getStartDate().isBefore(from) ? from : entry.getStartDate();
+                LocalDate end = entry.getEndDate().isAfter(to) ? to : entry.getEndDate();
+                int days = 0;
+                for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                    if (!holidays.contains(date)) {
+                        days++;
+                    }
+                }
+                intervals++;
+                paidDays += days;
+                amount = amount.add(paymentService.calculatePayment(entry.getAverageSalary(), days).getVacationPayAmount());
+                employees.add(entry.getEmployeeId());
+            }
+            assertEquals(intervals, summary.getVacationIntervals());
+            assertEquals(employees.size(), summary.getEmployees());
+            assertEquals(paidDays, summary.getPaidDays());
+            assertEquals(amount, summary.getVacationPayAmount());
+            assertNull(summary.getEmployeeIds());
+        }
+        assertEquals(500, loaded.getVacationIntervals());
+    }
+
+    @Test
+    void shouldRecalculateIntervalPay_WhenCalendarChangedAfterLoad() {
+        //Given
+        BigDecimal salary = new BigDecimal("50000");
+        CalendarService changingCalendar = spy(calendarService);
+        store = new VacationScheduleStore(changingCalendar, paymentService);
+        ScheduleLoadResponseDTO loaded = store.load(List.of(
+                new ScheduleEntryDTO(1L, salary, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 14))
+        ));
+
+        //When
+        List<LocalDate> changedHolidays = new ArrayList<>(holidays);
+        changedHolidays.add(LocalDate.of(2026, 6, 12));
+        doReturn("changed").when(changingCalendar).getCalendarVersion();
+        doReturn(HolidayBitmap.of(changedHolidays)).when(changingCalendar).getHolidayBitmap();
+        ScheduleSummaryResponseDTO summary = store.summarize(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 7), false);
+
+        //Then
+        assertNotEquals(loaded.getCalendarVersion(), summary.getCalendarVersion());
+        assertEquals(paymentService.calculatePayment(salary, 13).getVacationPayAmount(),
+                summary.getIntervalVacationPayAmount());
+        assertEquals(paymentService.calculatePayment(salary, 7).getVacationPayAmount(),
+                summary.getVacationPayAmount());
+    }
+
+    @Test
+    void shouldRejectIntervalFailingValidation() {
+        //Given
+        List<ScheduleEntryDTO> entries = List.of(
+                new ScheduleEntryDTO(7L, new BigDecimal("50000"), LocalDate.of(2026, 3, 1), LocalDate.of(2026, 4, 30))
+        );
+
+        //When & Then
+        VacationCalculationException exception = assertThrows(VacationCalculationException.class,
+                () -> store.load(entries));
+        assertEquals("Сотрудник 7, отпуск 2026-03-01 — 2026-04-30: Отпуск не может быть больше 28 дней",
+                exception.getMessage());
+    }
+}
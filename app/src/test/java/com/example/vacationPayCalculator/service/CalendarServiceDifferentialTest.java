@@ -0,0 +1,67 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.config.HolidayConfiguration;
+import com.example.vacationPayCalculator.config.PayTableProperties;
+import com.example.vacationPayCalculator.engine.DifferentialHarness;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Дифференциальные тесты адаптеров {@link CalendarService} и {@link VacationPaymentServiceImpl}
+ * против эталонной реализации из test-jar модуля {@code core}.
+ * <p>
+ * Помимо совпадения результатов проверяется, что запросы обслуживает движок,
+ * построенный при создании сервиса: на каждый набор праздников создается сервис,
+ * и его движок строится ровно один раз.
+ * </p>
+ *
+ * @see DifferentialHarness
+ * @see CalendarService#getEngineBuilds()
+ */
+public class CalendarServiceDifferentialTest {
+    private static final long SEED = 20_261_018L;
+
+    private final DifferentialHarness harness = new DifferentialHarness(SEED, 100_000);
+
+    @Test
+    void shouldMatchReference_AndReuseEngineBuiltOnce() {
+        //Given
+        List<CalendarService> services = new ArrayList<>();
+
+        //When
+        harness.checkDaysBetweenDates("CalendarService.getDaysBetweenDates", holidays -> {
+            HolidayConfiguration holidayConfig = new HolidayConfiguration();
+            holidayConfig.setHolidays(holidays);
+            CalendarService calendarService = new CalendarService(holidayConfig);
+            services.add(calendarService);
+            return calendarService::getDaysBetweenDates;
+        });
+
+        //Then
+        assertEquals(harness.getHolidaySetCount(), services.size());
+        long paidDayQueries = 0;
+        for (CalendarService calendarService : services) {
+            assertEquals(1, calendarService.getEngineBuilds(), "Движок должен строиться один раз при создании сервиса");
+            paidDayQueries += calendarService.getPaidDayQueries();
+        }
+        assertEquals(harness.getIterations(), paidDayQueries);
+    }
+
+    @Test
+    void shouldMatchReference_WhenCalculatingPaymentWithNumberOfDays() {
+        //Given
+        VacationPaymentServiceImpl vacationPaymentService =
+                new VacationPaymentServiceImpl(new CalendarService(new HolidayConfiguration()),
+                        new PayTableCache(new PayTableProperties()));
+
+        //When & Then
+        harness.checkPayments("VacationPaymentServiceImpl.calculatePaymentWithNumberOfDays",
+                (averageSalary, numberOfVacationDays) -> vacationPaymentService.calculatePaymentWithNumberOfDays(
+                        new CalculateByDaysRequestDTO(averageSalary, numberOfVacationDays)).getVacationPayAmount());
+    }
+}
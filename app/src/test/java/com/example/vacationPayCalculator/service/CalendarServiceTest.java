@@ -1,5 +1,6 @@
 package com.example.vacationPayCalculator.service;
 
+import com.example.vacationPayCalculator.calendar.DateRange;
 import com.example.vacationPayCalculator.config.HolidayConfiguration;
 import com.example.vacationPayCalculator.exception.VacationCalculationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,9 +10,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +68,7 @@ public class CalendarServiceTest {
                 HOLIDAY_DATE
         );
         when(holidayConfig.getHolidays()).thenReturn(holidays);
+        calendarService = new CalendarService(holidayConfig);
 
         //When
         int result = calendarService.getDaysBetweenDates(TEST_DATE_1, TEST_DATE_2);
@@ -114,6 +119,7 @@ public class CalendarServiceTest {
                 LocalDate.of(2026, 1, 4)
         );
         when(holidayConfig.getHolidays()).thenReturn(holidays);
+        calendarService = new CalendarService(holidayConfig);
 
         VacationCalculationException exception = assertThrows(
                 VacationCalculationException.class,
@@ -125,5 +131,105 @@ public class CalendarServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void shouldChangeCalendarVersion_WhenHolidaysChange() {
+        //Given
+        when(holidayConfig.getHolidays())
+                .thenReturn(List.of(HOLIDAY_DATE))
+                .thenReturn(List.of(HOLIDAY_DATE, TEST_DATE_2));
+
+        //When
+        String firstVersion = new CalendarService(holidayConfig).getCalendarVersion();
+        String secondVersion = new CalendarService(holidayConfig).getCalendarVersion();
+
+        //Then
+        assertNotEquals(firstVersion, secondVersion, "Версия календаря должна меняться вместе со списком праздников");
+    }
+
+    @Test
+    void shouldIgnoreNullHolidays() {
+        //Given
+        when(holidayConfig.getHolidays()).thenReturn(Arrays.asList(HOLIDAY_DATE, null));
+        calendarService = new CalendarService(holidayConfig);
+
+        //When
+        int result = calendarService.getDaysBetweenDates(TEST_DATE_1, TEST_DATE_2);
+
+        //Then
+        assertEquals(5, result);
+        assertEquals(16, calendarService.getCalendarVersion().length());
+    }
+
+    @Test
+    void shouldReturnConfiguredCalendarVersion() {
+        //Given
+        when(holidayConfig.getVersion()).thenReturn("2026.1");
+        calendarService = new CalendarService(holidayConfig);
+
+        //When & Then
+        assertEquals("2026.1", calendarService.getCalendarVersion());
+    }
+
+    @Test
+    void shouldCalculateDaysInPeriods_InRequestOrder() {
+        //Given
+        when(holidayConfig.getHolidays()).thenReturn(List.of(HOLIDAY_DATE));
+        calendarService = new CalendarService(holidayConfig);
+        List<DateRange> periods = List.of(
+                new DateRange(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 3)),
+                new DateRange(TEST_DATE_1, TEST_DATE_2)
+        );
+
+        //When
+        int[] result = calendarService.getDaysInPeriods(periods);
+
+        //Then
+        assertArrayEquals(new int[]{3, 5}, result);
+    }
+
+    @Test
+    void shouldThrowException_WhenPeriodsOverlap() {
+        //Given
+        List<DateRange> periods = List.of(
+                new DateRange(TEST_DATE_1, TEST_DATE_2),
+                new DateRange(TEST_DATE_2, TEST_DATE_2.plusDays(3))
+        );
+
+        //When & Then
+        VacationCalculationException exception = assertThrows(
+                VacationCalculationException.class,
+                () -> calendarService.getDaysInPeriods(periods)
+        );
+
+        assertEquals("Периоды отпуска пересекаются: 2026-01-10 — 2026-01-15 и 2026-01-15 — 2026-01-18",
+                exception.getMessage());
+    }
+
+    @Test
+    void shouldCountPaidDays_ForEpochDayColumns() {
+        //Given
+        when(holidayConfig.getHolidays()).thenReturn(List.of(HOLIDAY_DATE));
+        calendarService = new CalendarService(holidayConfig);
+        int[] startEpochDays = {(int) TEST_DATE_1.toEpochDay(), (int) HOLIDAY_DATE.toEpochDay(), (int) TEST_DATE_2.toEpochDay()};
+        int[] endEpochDays = {(int) TEST_DATE_2.toEpochDay(), (int) HOLIDAY_DATE.toEpochDay(), (int) TEST_DATE_2.toEpochDay() + 30};
+
+        //When
+        int[] result = calendarService.countPaidDays(startEpochDays, endEpochDays);
 
+        //Then
+        assertArrayEquals(new int[]{5, 0, 31}, result);
+    }
+
+    @Test
+    void shouldThrowException_WhenEpochDayRangeInvalid() {
+        //Given
+        int[] startEpochDays = {(int) TEST_DATE_2.toEpochDay()};
+        int[] endEpochDays = {(int) TEST_DATE_1.toEpochDay()};
+
+        //When & Then
+        assertThrows(VacationCalculationException.class,
+                () -> calendarService.countPaidDays(startEpochDays, endEpochDays));
+        assertThrows(VacationCalculationException.class,
+                () -> calendarService.countPaidDays(startEpochDays, new int[0]));
+    }
 }
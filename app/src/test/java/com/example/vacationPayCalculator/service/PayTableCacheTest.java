@@ -0,0 +1,126 @@
+package com.example.vacationPayCalculator.service;
+
+import com.example.vacationPayCalculator.config.PayTableProperties;
+import com.example.vacationPayCalculator.engine.PayTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Модульные тесты для класса {@link PayTableCache}.
+ *
+ * @see PayTableCache
+ */
+public class PayTableCacheTest {
+    private static final BigDecimal GRADE = new BigDecimal("50000");
+
+    private static PayTableCache cache(int cacheSize) {
+        PayTableProperties properties = new PayTableProperties();
+        properties.setCacheSize(cacheSize);
+        properties.setGrades(List.of(GRADE));
+        return new PayTableCache(properties);
+    }
+
+    @Test
+    void shouldReuseTable_ForEqualSalariesWithDifferentScale() {
+        //Given
+        PayTableCache cache = cache(16);
+        PayTable table = cache.getOrCalculate(new BigDecimal("61000"));
+
+        //When & Then
+        assertSame(table, cache.getOrCalculate(new BigDecimal("61000.00")));
+        assertSame(cache.getOrCalculate(GRADE), cache.getOrCalculate(new BigDecimal("50000.0")));
+    }
+
+    @Test
+    void shouldNotExceedCacheSize() {
+        //Given
+        PayTableCache cache = cache(8);
+
+        //When
+        for (int salary = 20_000; salary < 21_000; salary++) {
+            cache.getOrCalculate(BigDecimal.valueOf(salary));
+        }
+
+        //Then
+        assertEquals(8, cache.getCachedTables());
+    }
+
+    @Test
+    void shouldKeepRecentlyUsedTable_WhenEvicting() {
+        //Given
+        PayTableCache cache = cache(4);
+        BigDecimal hotSalary = new BigDecimal("77777");
+        PayTable hotTable = cache.getOrCalculate(hotSalary);
+
+        //When
+        for (int salary = 30_000; salary < 30_100; salary++) {
+            cache.getOrCalculate(hotSalary);
+            cache.getOrCalculate(BigDecimal.valueOf(salary));
+        }
+
+        //Then
+        assertSame(hotTable, cache.getOrCalculate(hotSalary), "Часто используемая таблица не должна вытесняться");
+        assertEquals(4, cache.getCachedTables());
+    }
+
+    @Test
+    void shouldKeepHotTable_WhileColdTablesAreInserted() {
+        //Given
+        PayTableCache cache = cache(4);
+        BigDecimal hotSalary = new BigDecimal("88888");
+        PayTable hotTable = cache.getOrCalculate(hotSalary);
+
+        //When
+        for (int salary = 40_000; salary < 41_000; salary++) {
+            if (salary % 3 == 0) {
+                assertSame(hotTable, cache.getOrCalculate(hotSalary), "Часто используемая таблица не должна вытесняться");
+            }
+            cache.getOrCalculate(BigDecimal.valueOf(salary));
+        }
+
+        //Then
+        assertSame(hotTable, cache.getOrCalculate(hotSalary));
+        assertEquals(4, cache.getCachedTables());
+    }
+
+    @Test
+    void shouldEvictColdTablesInInsertionOrder() {
+        //Given
+        PayTableCache cache = cache(4);
+        List<PayTable> tables = new ArrayList<>();
+
+        //When
+        for (int salary = 50_001; salary <= 50_100; salary++) {
+            tables.add(cache.getOrCalculate(BigDecimal.valueOf(salary)));
+        }
+
+        //Then
+        for (int salary = 50_097; salary <= 50_100; salary++) {
+            assertSame(tables.get(salary - 50_001), cache.getOrCalculate(BigDecimal.valueOf(salary)),
+                    "Стрелка должна вытеснять самые старые записи, а не начинать обход заново");
+        }
+    }
+
+    @Test
+    void shouldKeepGradeTables_WhenClearingCachedTables() {
+        //Given
+        PayTableCache cache = cache(8);
+        PayTable gradeTable = cache.getOrCalculate(GRADE);
+        PayTable table = cache.getOrCalculate(new BigDecimal("61000"));
+
+        //When
+        cache.clearCachedTables();
+
+        //Then
+        assertEquals(0, cache.getCachedTables());
+        assertSame(gradeTable, cache.getOrCalculate(GRADE));
+        assertNotSame(table, cache.getOrCalculate(new BigDecimal("61000")));
+    }
+}
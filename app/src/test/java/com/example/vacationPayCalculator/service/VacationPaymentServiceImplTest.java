@@ -1,8 +1,15 @@
 package com.example.vacationPayCalculator.service;
 
+import com.example.vacationPayCalculator.DTO.request.CalculateBatchItemDTO;
 import com.example.vacationPayCalculator.DTO.request.CalculateByDatesRequestDTO;
 import com.example.vacationPayCalculator.DTO.request.CalculateByDaysRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.CalculateByPeriodsRequestDTO;
+import com.example.vacationPayCalculator.DTO.request.VacationPeriodDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateBatchColumnarResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.CalculateByPeriodsResponseDTO;
 import com.example.vacationPayCalculator.DTO.response.CalculateResponseDTO;
+import com.example.vacationPayCalculator.DTO.response.PayTableResponseDTO;
+import com.example.vacationPayCalculator.config.PayTableProperties;
 import com.example.vacationPayCalculator.exception.VacationCalculationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -44,7 +54,7 @@ public class VacationPaymentServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        vacationPaymentService = new VacationPaymentServiceImpl(calendarService);
+        vacationPaymentService = new VacationPaymentServiceImpl(calendarService, new PayTableCache(new PayTableProperties()));
     }
 
     @Test
@@ -168,4 +178,105 @@ public class VacationPaymentServiceImplTest {
         assertEquals("Количество дней отпуска должно быть не менее 1", exception.getMessage());
     }
 
+    @Test
+    void shouldCalculatePayTableMatchingSingleCalculations() {
+        // Given
+        BigDecimal averageSalary = new BigDecimal("50000");
+
+        // When
+        PayTableResponseDTO table = vacationPaymentService.calculatePayTable(averageSalary);
+
+        // Then
+        assertEquals(28, table.getVacationPayAmounts().size());
+        for (int days = 1; days <= 28; days++) {
+            BigDecimal expected = vacationPaymentService.calculatePayment(averageSalary, days).getVacationPayAmount();
+            assertEquals(expected, table.getVacationPayAmounts().get(days - 1),
+                    "Сумма в таблице должна совпадать с расчетом за " + days + " дней");
+        }
+        assertEquals(0, new BigDecimal("23890.78").compareTo(table.getVacationPayAmounts().get(13)));
+    }
+
+    @Test
+    void shouldThrowException_WhenPayTableSalaryIsZero() {
+        // When & Then
+        VacationCalculationException exception = assertThrows(
+                VacationCalculationException.class,
+                () -> vacationPaymentService.calculatePayTable(BigDecimal.ZERO)
+        );
+
+        assertEquals("Зарплата должна быть больше нуля", exception.getMessage());
+    }
+
+    @Test
+    void shouldCalculatePerPeriodAndTotalAmounts() {
+        // Given
+        BigDecimal averageSalary = new BigDecimal("50000");
+        CalculateByPeriodsRequestDTO request = new CalculateByPeriodsRequestDTO(averageSalary, List.of(
+                new VacationPeriodDTO(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 14)),
+                new VacationPeriodDTO(LocalDate.of(2026, 12, 21), LocalDate.of(2026, 12, 27))
+        ));
+        when(calendarService.getDaysInPeriods(anyList())).thenReturn(new int[]{13, 7});
+
+        // When
+        CalculateByPeriodsResponseDTO result = vacationPaymentService.calculatePaymentWithPeriods(request);
+
+        // Then
+        assertEquals(20, result.getTotalPaidDays());
+        assertEquals(0, new BigDecimal("22184.30").compareTo(result.getPeriods().get(0).getVacationPayAmount()));
+        assertEquals(0, new BigDecimal("11945.39").compareTo(result.getPeriods().get(1).getVacationPayAmount()));
+        assertEquals(0, new BigDecimal("34129.69").compareTo(result.getTotalVacationPayAmount()));
+    }
+
+    @Test
+    void shouldThrowException_WhenPeriodsExceedMaximumInTotal() {
+        // Given
+        CalculateByPeriodsRequestDTO request = new CalculateByPeriodsRequestDTO(new BigDecimal("50000"), List.of(
+                new VacationPeriodDTO(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 14)),
+                new VacationPeriodDTO(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 15))
+        ));
+        when(calendarService.getDaysInPeriods(anyList())).thenReturn(new int[]{14, 15});
+
+        // When & Then
+        VacationCalculationException exception = assertThrows(
+                VacationCalculationException.class,
+                () -> vacationPaymentService.calculatePaymentWithPeriods(request)
+        );
+
+        assertEquals("Отпуск не может быть больше 28 дней", exception.getMessage());
+    }
+
+    @Test
+    void shouldCalculateBatch_WithPerItemErrors() {
+        // Given
+        BigDecimal averageSalary = new BigDecimal("50000");
+        LocalDate startDate = LocalDate.of(2026, 1, 10);
+        LocalDate endDate = LocalDate.of(2026, 1, 15);
+        when(calendarService.getDaysBetweenDates(startDate, endDate)).thenReturn(5);
+        List<CalculateBatchItemDTO> items = List.of(
+                new CalculateBatchItemDTO(averageSalary, 14, null, null),
+                new CalculateBatchItemDTO(averageSalary, 29, null, null),
+                new CalculateBatchItemDTO(averageSalary, null, startDate, endDate),
+                new CalculateBatchItemDTO(averageSalary, 14, startDate, endDate),
+                new CalculateBatchItemDTO(new BigDecimal("1e-2147483647"), 14, null, null)
+        );
+
+        // When
+        List<CalculateResponseDTO> results = vacationPaymentService.calculateBatch(items);
+        CalculateBatchColumnarResponseDTO columnar = CalculateBatchColumnarResponseDTO.from(results);
+
+        // Then
+        assertEquals(5, results.size());
+        assertEquals(0, new BigDecimal("23890.78").compareTo(results.get(0).getVacationPayAmount()));
+        assertNull(results.get(1).getVacationPayAmount());
+        assertEquals("Отпуск не может быть больше 28 дней", results.get(1).getMessage());
+        assertEquals(0, new BigDecimal("8532.42").compareTo(results.get(2).getVacationPayAmount()));
+        assertEquals("Укажите либо количество дней отпуска, либо даты начала и окончания", results.get(3).getMessage());
+        assertNull(results.get(4).getVacationPayAmount());
+        assertEquals(VacationPaymentServiceImpl.OVERFLOW_MESSAGE, results.get(4).getMessage());
+
+        assertEquals(List.of("Расчет выполнен успешно", "Отпуск не может быть больше 28 дней",
+                "Укажите либо количество дней отпуска, либо даты начала и окончания",
+                VacationPaymentServiceImpl.OVERFLOW_MESSAGE), columnar.getMessages());
+        assertArrayEquals(new int[]{0, 1, 0, 2, 3}, columnar.getMessageIndexes());
+    }
 }
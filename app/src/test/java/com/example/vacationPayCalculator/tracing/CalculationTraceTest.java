@@ -0,0 +1,138 @@
+package com.example.vacationPayCalculator.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        CalculationTracer.end();
+    }
+
+    @Test
+    void span_WithoutActiveTrace_ShouldBeNoop() {
+        //When
+        CalculationTracer.Span first = CalculationTracer.span(CalculationTracer.CALENDAR);
+        CalculationTracer.Span second = CalculationTracer.span(CalculationTracer.PAYMENT);
+        first.close();
+
+        //Then
+        assertNull(CalculationTracer.current());
+        assertSame(first, second);
+    }
+
+    @Test
+    void span_ShouldRecordNestedSpans() {
+        //Given
+        CalculationTrace trace = CalculationTracer.begin();
+        trace.open(CalculationTracer.REQUEST);
+
+        //When
+        try (CalculationTracer.Span handler = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            try (CalculationTracer.Span calendar = CalculationTracer.span(CalculationTracer.CALENDAR)) {
+                assertSame(trace, CalculationTracer.current());
+            }
+            try (CalculationTracer.Span payment = CalculationTracer.span(CalculationTracer.PAYMENT)) {
+                assertSame(trace, CalculationTracer.current());
+            }
+        }
+        trace.finish();
+
+        //Then
+        assertEquals(4, trace.size());
+        assertEquals(-1, trace.getParent(0));
+        assertEquals(0, trace.getParent(1));
+        assertEquals(1, trace.getParent(2));
+        assertEquals(1, trace.getParent(3));
+        assertEquals(32, trace.getTraceId().length());
+        for (int i = 0; i < trace.size(); i++) {
+            assertTrue(trace.getDurationNanos(i) >= 0);
+        }
+        assertTrue(trace.getDurationNanos(CalculationTracer.REQUEST)
+                >= trace.getDurationNanos(CalculationTracer.HANDLER));
+    }
+
+    @Test
+    void finish_ShouldDeriveBindingAndSerialization() {
+        //Given
+        CalculationTrace trace = CalculationTracer.begin();
+        trace.open(CalculationTracer.REQUEST);
+        trace.markDispatched();
+        try (CalculationTracer.Span handler = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            trace.markSerializationStart();
+        }
+
+        //When
+        trace.finish();
+        String timing = TracingFilter.formatTiming(trace);
+
+        //Then
+        assertTrue(trace.getDurationNanos(CalculationTracer.BINDING) >= 0);
+        assertTrue(trace.getDurationNanos(CalculationTracer.SERIALIZATION) >= 0);
+        assertEquals(-1, trace.getDurationNanos(CalculationTracer.CALENDAR));
+        assertTrue(timing.startsWith("binding="));
+        assertTrue(timing.contains(";serialization="));
+        assertTrue(timing.contains(";total="));
+        assertFalse(timing.contains("calendar="));
+    }
+
+    @Test
+    void finish_ShouldEndBindingAtBeanValidation() {
+        //Given
+        CalculationTrace trace = CalculationTracer.begin();
+        trace.open(CalculationTracer.REQUEST);
+        trace.markDispatched();
+        CalculationTracer.span(CalculationTracer.VALIDATION).close();
+        try (CalculationTracer.Span handler = CalculationTracer.span(CalculationTracer.HANDLER)) {
+            CalculationTracer.span(CalculationTracer.VALIDATION).close();
+        }
+
+        //When
+        trace.finish();
+
+        //Then
+        int beanValidation = 1;
+        int binding = trace.size() - 1;
+        assertEquals(CalculationTracer.VALIDATION, trace.getName(beanValidation));
+        assertEquals(CalculationTracer.BINDING, trace.getName(binding));
+        assertEquals(trace.getStartEpochNanos(beanValidation),
+                trace.getStartEpochNanos(binding) + trace.getDurationNanos(binding),
+                "Привязка должна заканчиваться началом Bean Validation");
+    }
+
+    @Test
+    void finish_ShouldRecordBinding_WhenBeanValidationRejectsRequest() {
+        //Given
+        CalculationTrace trace = CalculationTracer.begin();
+        trace.open(CalculationTracer.REQUEST);
+        trace.markDispatched();
+        CalculationTracer.span(CalculationTracer.VALIDATION).close();
+
+        //When
+        trace.finish();
+
+        //Then
+        assertTrue(trace.getDurationNanos(CalculationTracer.BINDING) >= 0);
+        assertTrue(trace.getDurationNanos(CalculationTracer.VALIDATION) >= 0);
+    }
+
+    @Test
+    void toJson_ShouldReferenceParentSpans() {
+        //Given
+        CalculationTrace trace = CalculationTracer.begin();
+        trace.open(CalculationTracer.REQUEST);
+        CalculationTracer.span(CalculationTracer.CALENDAR).close();
+        trace.finish();
+
+        //When
+        String json = TraceExporter.toJson(trace);
+
+        //Then
+        assertTrue(json.startsWith("{\"traceId\":\"" + trace.getTraceId() + "\""));
+        assertTrue(json.contains("{\"spanId\":\"0000000000000001\",\"name\":\"request\""));
+        assertTrue(json.contains("\"spanId\":\"0000000000000002\",\"parentSpanId\":\"0000000000000001\",\"name\":\"calendar\""));
+    }
+}
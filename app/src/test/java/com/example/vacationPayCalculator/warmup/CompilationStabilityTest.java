@@ -0,0 +1,43 @@
+package com.example.vacationPayCalculator.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для класса {@link CompilationStability}.
+ * <p>
+ * Замеры времени компиляции передаются явно, поэтому тесты не зависят от JIT.
+ * </p>
+ *
+ * @see CompilationStability
+ */
+public class CompilationStabilityTest {
+
+    @Test
+    void shouldStabilize_AfterRequiredQuietIntervals() {
+        //Given
+        CompilationStability stability = new CompilationStability(1_000, 20, 3);
+
+        //When & Then
+        assertFalse(stability.record(1_800), "Интервал с активной компиляцией не стабилен");
+        assertFalse(stability.record(1_810));
+        assertFalse(stability.record(1_830));
+        assertTrue(stability.record(1_840), "Три интервала подряд с приростом не больше порога");
+    }
+
+    @Test
+    void shouldResetCount_WhenCompilationSpikes() {
+        //Given
+        CompilationStability stability = new CompilationStability(0, 20, 3);
+        stability.record(5);
+        stability.record(10);
+
+        //When & Then
+        assertFalse(stability.record(1_500), "Крупная компиляция C2 сбрасывает счет");
+        assertFalse(stability.record(1_500));
+        assertFalse(stability.record(1_510));
+        assertTrue(stability.record(1_510));
+    }
+}
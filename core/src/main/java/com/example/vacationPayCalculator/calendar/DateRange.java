@@ -0,0 +1,27 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * Период между двумя датами, обе границы включаются.
+ *
+ * @param startDate дата начала периода
+ * @param endDate дата окончания периода
+ */
+public record DateRange(LocalDate startDate, LocalDate endDate) {
+
+    /**
+     * Проверяет, пересекается ли период с другим периодом.
+     *
+     * @param other другой период
+     * @return {@code true}, если у периодов есть общий день
+     */
+    public boolean overlaps(DateRange other) {
+        return !startDate.isAfter(other.endDate) && !other.startDate.isAfter(endDate);
+    }
+
+    @Override
+    public String toString() {
+        return startDate + " — " + endDate;
+    }
+}
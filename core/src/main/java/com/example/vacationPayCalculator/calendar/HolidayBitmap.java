@@ -0,0 +1,197 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+
+/**
+ * Битовая карта праздничных дней, индексированная по номеру дня от эпохи
+ * ({@link LocalDate#toEpochDay()}), с префиксными суммами по 64-битным словам.
+ * <p>
+ * Количество праздников в любом диапазоне вычисляется за O(1): сумма полных слов
+ * берется из префиксного массива, а неполные слова на границах считаются
+ * {@link Long#bitCount(long)}, который JIT заменяет инструкцией {@code POPCNT}.
+ * Диапазоны передаются номерами дней, поэтому объекты {@link LocalDate}
+ * при подсчете не создаются.
+ * </p>
+ *
+ * <p>Экземпляр неизменяем и потокобезопасен.</p>
+ *
+ * @see HolidaySnapshot
+ */
+public final class HolidayBitmap {
+    private static final HolidayBitmap EMPTY = new HolidayBitmap(0, new long[0]);
+
+    /**
+     * Номер дня, соответствующий младшему биту первого слова (кратен 64).
+     */
+    private final long firstEpochDay;
+    private final long[] words;
+
+    /**
+     * {@code prefix[i]} — количество праздников в словах {@code 0..i-1}.
+     */
+    private final int[] prefix;
+
+    private HolidayBitmap(long firstEpochDay, long[] words) {
+        this.firstEpochDay = firstEpochDay;
+        this.words = words;
+        this.prefix = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            prefix[i + 1] = prefix[i] + Long.bitCount(words[i]);
+        }
+    }
+
+    /**
+     * Строит битовую карту по набору праздничных дней.
+     *
+     * @param holidays праздничные дни (повторы и {@code null} игнорируются)
+     * @return битовая карта
+     */
+    public static HolidayBitmap of(Collection<LocalDate> holidays) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (LocalDate holiday : holidays) {
+            if (holiday != null) {
+                min = Math.min(min, holiday.toEpochDay());
+                max = Math.max(max, holiday.toEpochDay());
+            }
+        }
+        if (min > max) {
+            return EMPTY;
+        }
+
+        long firstEpochDay = Math.floorDiv(min, 64) * 64;
+        long[] words = new long[Math.toIntExact((max - firstEpochDay) / 64 + 1)];
+        for (LocalDate holiday : holidays) {
+            if (holiday != null) {
+                long offset = holiday.toEpochDay() - firstEpochDay;
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+        }
+        return new HolidayBitmap(firstEpochDay, words);
+    }
+
+    /**
+     * Строит битовую карту по словам снимка календаря.
+     * <p>
+     * Слова каждого года сдвигаются на границу 64-дневных слов карты без
+     * создания объектов {@link LocalDate} для праздников: снимок остается
+     * источником битов, а не списка дат.
+     * </p>
+     *
+     * @param snapshot снимок календаря
+     * @return битовая карта, покрывающая все годы снимка
+     */
+    public static HolidayBitmap of(HolidaySnapshot snapshot) {
+        int yearCount = snapshot.getYearCount();
+        if (yearCount == 0) {
+            return EMPTY;
+        }
+
+        int firstYear = snapshot.getFirstYear();
+        long firstYearStart = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        long lastDay = LocalDate.of(firstYear + yearCount - 1, 12, 31).toEpochDay();
+        long firstEpochDay = Math.floorDiv(firstYearStart, 64) * 64;
+        long[] words = new long[Math.toIntExact((lastDay - firstEpochDay) / 64 + 1)];
+
+        long yearStart = firstYearStart;
+        for (int yearIndex = 0; yearIndex < yearCount; yearIndex++) {
+            int daysInYear = Year.isLeap(firstYear + yearIndex) ? 366 : 365;
+            for (int wordIndex = 0; wordIndex < HolidaySnapshot.WORDS_PER_YEAR; wordIndex++) {
+                int validBits = Math.min(64, daysInYear - wordIndex * 64);
+                long bits = snapshot.getWord(yearIndex, wordIndex);
+                if (validBits < 64) {
+                    bits &= (1L << validBits) - 1;
+                }
+                if (bits == 0) {
+                    continue;
+                }
+
+                long offset = yearStart + wordIndex * 64L - firstEpochDay;
+                int target = (int) (offset >>> 6);
+                int shift = (int) (offset & 63);
+                words[target] |= bits << shift;
+                if (shift != 0 && target + 1 < words.length) {
+                    words[target + 1] |= bits >>> (64 - shift);
+                }
+            }
+            yearStart += daysInYear;
+        }
+        return new HolidayBitmap(firstEpochDay, words);
+    }
+
+    /**
+     * Проверяет, является ли день праздничным.
+     *
+     * @param epochDay номер дня от эпохи
+     * @return {@code true}, если день праздничный
+     */
+    public boolean isHoliday(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= (long) words.length * 64) {
+            return false;
+        }
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    /**
+     * Возвращает количество праздничных дней в диапазоне.
+     *
+     * @param startEpochDay первый день диапазона (включительно)
+     * @param endEpochDay последний день диапазона (включительно)
+     * @return количество праздников; {@code 0}, если начало позже окончания
+     */
+    public int countHolidays(long startEpochDay, long endEpochDay) {
+        if (startEpochDay > endEpochDay) {
+            return 0;
+        }
+        return rank(endEpochDay + 1) - rank(startEpochDay);
+    }
+
+    /**
+     * Возвращает количество оплачиваемых (непраздничных) дней в диапазоне.
+     *
+     * @param startEpochDay первый день диапазона (включительно)
+     * @param endEpochDay последний день диапазона (включительно)
+     * @return количество оплачиваемых дней; {@code 0}, если начало позже окончания
+     */
+    public int countPaidDays(long startEpochDay, long endEpochDay) {
+        if (startEpochDay > endEpochDay) {
+            return 0;
+        }
+        return Math.toIntExact(endEpochDay - startEpochDay + 1) - rank(endEpochDay + 1) + rank(startEpochDay);
+    }
+
+    /**
+     * Пакетный подсчет оплачиваемых дней для колонок границ диапазонов.
+     *
+     * @param startEpochDays первые дни диапазонов (включительно)
+     * @param endEpochDays последние дни диапазонов (включительно)
+     * @param paidDays массив для результатов длиной не меньше количества диапазонов
+     * @throws IllegalArgumentException если длины массивов не совпадают
+     */
+    public void countPaidDays(int[] startEpochDays, int[] endEpochDays, int[] paidDays) {
+        if (startEpochDays.length != endEpochDays.length || paidDays.length < startEpochDays.length) {
+            throw new IllegalArgumentException("Длины массивов границ и результатов не совпадают");
+        }
+        for (int i = 0; i < startEpochDays.length; i++) {
+            paidDays[i] = countPaidDays(startEpochDays[i], endEpochDays[i]);
+        }
+    }
+
+    /**
+     * Количество праздников в днях строго до {@code epochDay}.
+     */
+    private int rank(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset <= 0) {
+            return 0;
+        }
+        if (offset >= (long) words.length * 64) {
+            return prefix[words.length];
+        }
+        int word = (int) (offset >>> 6);
+        return prefix[word] + Long.bitCount(words[word] & ((1L << offset) - 1));
+    }
+}
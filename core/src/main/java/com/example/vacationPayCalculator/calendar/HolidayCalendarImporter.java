@@ -0,0 +1,156 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Импорт производственных календарей из файлов iCalendar и CSV.
+ * <p>
+ * Поддерживаемые форматы:
+ * </p>
+ * <ul>
+ *   <li><b>iCalendar</b> ({@code .ics}) — каждое событие {@code VEVENT} с датой
+ *       {@code DTSTART} (и необязательной {@code DTEND}, не включаемой в период)
+ *       считается праздником. Правила повторения {@code RRULE} не раскрываются.</li>
+ *   <li><b>CSV</b> ({@code .csv}, {@code .txt}) — дата в первой колонке в формате
+ *       {@code yyyy-MM-dd} или {@code dd.MM.yyyy}; разделитель — запятая или точка
+ *       с запятой. Пустые строки, комментарии ({@code #}) и строка заголовка пропускаются.</li>
+ * </ul>
+ *
+ * @see HolidaySnapshotWriter
+ */
+public final class HolidayCalendarImporter {
+    private static final DateTimeFormatter ICAL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter RUSSIAN_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private HolidayCalendarImporter() {
+    }
+
+    /**
+     * Импортирует праздничные дни из нескольких файлов, определяя формат по расширению.
+     *
+     * @param files файлы календарей
+     * @return отсортированное множество праздничных дней
+     * @throws IOException если файл не удалось прочитать
+     * @throws IllegalArgumentException если файл содержит некорректные данные
+     */
+    public static SortedSet<LocalDate> importFiles(List<Path> files) throws IOException {
+        SortedSet<LocalDate> holidays = new TreeSet<>();
+        for (Path file : files) {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".ics") || name.endsWith(".ical")) {
+                holidays.addAll(parseICalendar(lines));
+            } else {
+                holidays.addAll(parseCsv(lines));
+            }
+        }
+        return holidays;
+    }
+
+    /**
+     * Разбирает содержимое файла iCalendar.
+     *
+     * @param lines строки файла
+     * @return праздничные дни из всех событий
+     */
+    public static SortedSet<LocalDate> parseICalendar(List<String> lines) {
+        SortedSet<LocalDate> holidays = new TreeSet<>();
+        LocalDate start = null;
+        LocalDate end = null;
+        boolean inEvent = false;
+
+        for (String line : unfold(lines)) {
+            String upper = line.toUpperCase(Locale.ROOT);
+            if (upper.equals("BEGIN:VEVENT")) {
+                inEvent = true;
+                start = null;
+                end = null;
+            } else if (upper.equals("END:VEVENT")) {
+                if (start == null) {
+                    throw new IllegalArgumentException("Событие iCalendar без DTSTART");
+                }
+                LocalDate exclusiveEnd = end != null && end.isAfter(start) ? end : start.plusDays(1);
+                for (LocalDate date = start; date.isBefore(exclusiveEnd); date = date.plusDays(1)) {
+                    holidays.add(date);
+                }
+                inEvent = false;
+            } else if (inEvent && upper.startsWith("DTSTART")) {
+                start = parseICalendarDate(line);
+            } else if (inEvent && upper.startsWith("DTEND")) {
+                end = parseICalendarDate(line);
+            }
+        }
+        return holidays;
+    }
+
+    /**
+     * Разбирает содержимое CSV-файла.
+     *
+     * @param lines строки файла
+     * @return праздничные дни из первой колонки
+     */
+    public static SortedSet<LocalDate> parseCsv(List<String> lines) {
+        SortedSet<LocalDate> holidays = new TreeSet<>();
+        boolean firstDataLine = true;
+
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String column = trimmed.split("[,;]", 2)[0].strip();
+            try {
+                holidays.add(parseCsvDate(column));
+            } catch (DateTimeParseException e) {
+                if (!firstDataLine) {
+                    throw new IllegalArgumentException("Некорректная дата в CSV: " + column, e);
+                }
+            }
+            firstDataLine = false;
+        }
+        return holidays;
+    }
+
+    private static LocalDate parseCsvDate(String value) {
+        return value.indexOf('.') > 0 ? LocalDate.parse(value, RUSSIAN_DATE) : LocalDate.parse(value);
+    }
+
+    private static LocalDate parseICalendarDate(String line) {
+        String value = line.substring(line.lastIndexOf(':') + 1).strip();
+        if (value.length() < 8) {
+            throw new IllegalArgumentException("Некорректная дата iCalendar: " + line);
+        }
+        try {
+            return LocalDate.parse(value.substring(0, 8), ICAL_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Некорректная дата iCalendar: " + line, e);
+        }
+    }
+
+    /**
+     * Объединяет перенесенные строки iCalendar (RFC 5545, раздел 3.1).
+     */
+    private static List<String> unfold(List<String> lines) {
+        List<String> unfolded = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (!unfolded.isEmpty() && (line.startsWith(" ") || line.startsWith("\t"))) {
+                int last = unfolded.size() - 1;
+                unfolded.set(last, unfolded.get(last) + line.substring(1));
+            } else {
+                unfolded.add(line.strip());
+            }
+        }
+        return unfolded;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Бинарный снимок производственного календаря, отображаемый в память.
+ * <p>
+ * Праздничные дни хранятся в виде битовой карты: для каждого года отводится
+ * {@value #WORDS_PER_YEAR} слов по 64 бита, бит {@code dayOfYear - 1} установлен
+ * для праздничного дня. Поиск дня — одно чтение из отображенного файла,
+ * без разбора и без создания объектов при старте приложения.
+ * </p>
+ *
+ * <p>Формат файла (big-endian):</p>
+ * <pre>
+ * int    magic          = 0x56504853 ("VPHS")
+ * int    formatVersion  = 1
+ * int    versionLength
+ * byte[] version        (UTF-8, версия календаря)
+ * int    firstYear
+ * int    yearCount
+ * long[] bitmap         (yearCount * 6 слов)
+ * long   checksum       (CRC32 всех предыдущих байтов)
+ * </pre>
+ *
+ * @see HolidaySnapshotWriter
+ * @see HolidaySnapshotTool
+ */
+public final class HolidaySnapshot {
+    static final int MAGIC = 0x56504853;
+    static final int FORMAT_VERSION = 1;
+    static final int WORDS_PER_YEAR = 6;
+
+    private final ByteBuffer buffer;
+    private final String version;
+    private final int firstYear;
+    private final int yearCount;
+    private final int bitmapOffset;
+
+    private HolidaySnapshot(ByteBuffer buffer, String version, int firstYear, int yearCount, int bitmapOffset) {
+        this.buffer = buffer;
+        this.version = version;
+        this.firstYear = firstYear;
+        this.yearCount = yearCount;
+        this.bitmapOffset = bitmapOffset;
+    }
+
+    /**
+     * Отображает файл снимка в память и проверяет его заголовок и контрольную сумму.
+     *
+     * @param path путь к файлу снимка
+     * @return снимок календаря
+     * @throws IOException если файл не удалось прочитать или он поврежден
+     */
+    public static HolidaySnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return parse(mapped, path.toString());
+        }
+    }
+
+    /**
+     * Разбирает снимок из буфера в памяти.
+     *
+     * @param buffer содержимое файла снимка
+     * @return снимок календаря
+     * @throws IOException если данные повреждены
+     */
+    public static HolidaySnapshot wrap(ByteBuffer buffer) throws IOException {
+        return parse(buffer, "buffer");
+    }
+
+    private static HolidaySnapshot parse(ByteBuffer source, String name) throws IOException {
+        ByteBuffer buffer = source.duplicate();
+        int size = buffer.limit();
+        if (size < 20 + Long.BYTES) {
+            throw new IOException("Снимок календаря слишком короткий: " + name);
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Файл не является снимком календаря: " + name);
+        }
+        int formatVersion = buffer.getInt(4);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Неподдерживаемая версия формата снимка " + formatVersion + ": " + name);
+        }
+
+        long expectedChecksum = buffer.getLong(size - Long.BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(size - Long.BYTES));
+        if (crc.getValue() != expectedChecksum) {
+            throw new IOException("Контрольная сумма снимка календаря не совпадает: " + name);
+        }
+
+        int versionLength = buffer.getInt(8);
+        if (versionLength < 0 || 12L + versionLength + 8 > size - Long.BYTES) {
+            throw new IOException("Некорректный заголовок снимка календаря: " + name);
+        }
+        byte[] versionBytes = new byte[versionLength];
+        buffer.get(12, versionBytes);
+        int firstYear = buffer.getInt(12 + versionLength);
+        int yearCount = buffer.getInt(16 + versionLength);
+        int bitmapOffset = 20 + versionLength;
+        if (yearCount < 0 || bitmapOffset + (long) yearCount * WORDS_PER_YEAR * Long.BYTES != size - Long.BYTES) {
+            throw new IOException("Размер битовой карты не соответствует заголовку снимка: " + name);
+        }
+
+        return new HolidaySnapshot(buffer, new String(versionBytes, StandardCharsets.UTF_8),
+                firstYear, yearCount, bitmapOffset);
+    }
+
+    /**
+     * Проверяет, является ли дата праздничным днем.
+     * Даты за пределами покрытых снимком лет праздниками не считаются.
+     *
+     * @param date проверяемая дата
+     * @return {@code true}, если дата отмечена как праздник
+     */
+    public boolean isHoliday(LocalDate date) {
+        return isHoliday(date.getYear(), date.getDayOfYear());
+    }
+
+    /**
+     * Проверяет, является ли день года праздничным.
+     *
+     * @param year год
+     * @param dayOfYear номер дня в году, начиная с 1
+     * @return {@code true}, если день отмечен как праздник
+     */
+    public boolean isHoliday(int year, int dayOfYear) {
+        int yearIndex = year - firstYear;
+        if (yearIndex < 0 || yearIndex >= yearCount) {
+            return false;
+        }
+        int bit = dayOfYear - 1;
+        return (getWord(yearIndex, bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    /**
+     * Возвращает слово битовой карты.
+     *
+     * @param yearIndex индекс года относительно {@link #getFirstYear()}
+     * @param wordIndex индекс слова в году (0..5)
+     * @return 64 бита дней года, начиная с {@code wordIndex * 64}
+     */
+    public long getWord(int yearIndex, int wordIndex) {
+        return buffer.getLong(bitmapOffset + (yearIndex * WORDS_PER_YEAR + wordIndex) * Long.BYTES);
+    }
+
+    /**
+     * @return все праздничные дни снимка в порядке возрастания
+     */
+    public List<LocalDate> getHolidays() {
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int yearIndex = 0; yearIndex < yearCount; yearIndex++) {
+            int year = firstYear + yearIndex;
+            for (int wordIndex = 0; wordIndex < WORDS_PER_YEAR; wordIndex++) {
+                long word = getWord(yearIndex, wordIndex);
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    holidays.add(LocalDate.ofYearDay(year, wordIndex * 64 + bit + 1));
+                    word &= word - 1;
+                }
+            }
+        }
+        return holidays;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    public int getYearCount() {
+        return yearCount;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+/**
+ * Консольная утилита для сборки и проверки снимка производственного календаря.
+ * <p>
+ * Работает без запуска Spring-контекста и предназначена для подготовки
+ * снимка вне приложения (например, в CI при обновлении календаря).
+ * </p>
+ *
+ * <p>Использование:</p>
+ * <pre>
+ * # Сборка снимка из файлов iCalendar/CSV
+ * HolidaySnapshotTool build --version 2026.1 --output holidays.bin ru-2025.ics ru-2026.csv
+ *
+ * # Проверка заголовка и контрольной суммы снимка
+ * HolidaySnapshotTool verify holidays.bin
+ * </pre>
+ *
+ * <p>Запуск через Maven:</p>
+ * <pre>
+ * mvn -pl core compile exec:java -Dexec.mainClass=com.example.vacationPayCalculator.calendar.HolidaySnapshotTool \
+ *     -Dexec.args="build --version 2026.1 --output holidays.bin calendar.ics"
+ * </pre>
+ *
+ * @see HolidayCalendarImporter
+ * @see HolidaySnapshotWriter
+ * @see HolidaySnapshot
+ */
+public final class HolidaySnapshotTool {
+
+    private HolidaySnapshotTool() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Ошибка: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        if (args.length == 0) {
+            printUsage();
+            return 2;
+        }
+
+        switch (args[0]) {
+            case "build":
+                return build(args);
+            case "verify":
+                if (args.length != 2) {
+                    printUsage();
+                    return 2;
+                }
+                return verify(Path.of(args[1]));
+            default:
+                printUsage();
+                return 2;
+        }
+    }
+
+    private static int build(String[] args) throws IOException {
+        String version = null;
+        Path output = null;
+        List<Path> inputs = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--version") && i + 1 < args.length) {
+                version = args[++i];
+            } else if (args[i].equals("--output") && i + 1 < args.length) {
+                output = Path.of(args[++i]);
+            } else {
+                inputs.add(Path.of(args[i]));
+            }
+        }
+        if (version == null || output == null || inputs.isEmpty()) {
+            printUsage();
+            return 2;
+        }
+
+        SortedSet<LocalDate> holidays = HolidayCalendarImporter.importFiles(inputs);
+        HolidaySnapshotWriter.write(output, version, holidays);
+        System.out.printf("Снимок %s записан: версия %s, праздничных дней %d%n", output, version, holidays.size());
+        return verify(output);
+    }
+
+    private static int verify(Path snapshotPath) throws IOException {
+        HolidaySnapshot snapshot = HolidaySnapshot.open(snapshotPath);
+        List<LocalDate> holidays = snapshot.getHolidays();
+        System.out.printf("Снимок %s корректен: версия %s, годы %d-%d, праздничных дней %d%n",
+                snapshotPath,
+                snapshot.getVersion(),
+                snapshot.getFirstYear(),
+                snapshot.getFirstYear() + snapshot.getYearCount() - 1,
+                holidays.size());
+        return 0;
+    }
+
+    private static void printUsage() {
+        System.err.println("Использование:");
+        System.err.println("  build --version <версия> --output <файл снимка> <файлы .ics/.csv>...");
+        System.err.println("  verify <файл снимка>");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.vacationPayCalculator.calendar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+import static com.example.vacationPayCalculator.calendar.HolidaySnapshot.FORMAT_VERSION;
+import static com.example.vacationPayCalculator.calendar.HolidaySnapshot.MAGIC;
+import static com.example.vacationPayCalculator.calendar.HolidaySnapshot.WORDS_PER_YEAR;
+
+/**
+ * Формирует бинарный снимок производственного календаря.
+ * <p>
+ * Годы снимка охватывают диапазон от самого раннего до самого позднего
+ * праздника. Файл записывается во временный файл и атомарно переименовывается,
+ * поэтому приложение никогда не увидит частично записанный снимок.
+ * </p>
+ *
+ * @see HolidaySnapshot
+ */
+public final class HolidaySnapshotWriter {
+
+    private HolidaySnapshotWriter() {
+    }
+
+    /**
+     * Сериализует праздничные дни в формат снимка.
+     *
+     * @param version версия календаря, сохраняемая в заголовке
+     * @param holidays праздничные дни
+     * @return содержимое файла снимка
+     */
+    public static ByteBuffer toBuffer(String version, Collection<LocalDate> holidays) {
+        int firstYear = holidays.stream().mapToInt(LocalDate::getYear).min().orElse(0);
+        int lastYear = holidays.stream().mapToInt(LocalDate::getYear).max().orElse(-1);
+        int yearCount = lastYear - firstYear + 1;
+
+        long[] bitmap = new long[yearCount * WORDS_PER_YEAR];
+        for (LocalDate holiday : holidays) {
+            int bit = holiday.getDayOfYear() - 1;
+            bitmap[(holiday.getYear() - firstYear) * WORDS_PER_YEAR + (bit >>> 6)] |= 1L << bit;
+        }
+
+        byte[] versionBytes = version.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(20 + versionBytes.length + bitmap.length * Long.BYTES + Long.BYTES);
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(versionBytes.length)
+                .put(versionBytes)
+                .putInt(firstYear)
+                .putInt(yearCount);
+        for (long word : bitmap) {
+            buffer.putLong(word);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Записывает снимок календаря в файл.
+     *
+     * @param output путь к итоговому файлу
+     * @param version версия календаря
+     * @param holidays праздничные дни
+     * @throws IOException если файл не удалось записать
+     */
+    public static void write(Path output, String version, Collection<LocalDate> holidays) throws IOException {
+        ByteBuffer buffer = toBuffer(version, holidays);
+        Path directory = output.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, buffer.array());
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.vacationPayCalculator.engine;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.example.vacationPayCalculator.engine.VacationPayEngine.DAILY_EARNINGS_SCALE;
+import static com.example.vacationPayCalculator.engine.VacationPayEngine.DECIMAL_PLACES;
+import static com.example.vacationPayCalculator.engine.VacationPayEngine.MAX_VACATION_DAYS;
+import static com.example.vacationPayCalculator.engine.VacationPayEngine.ROUNDING_MODE;
+import static com.example.vacationPayCalculator.engine.VacationPayEngine.STANDARD_COEFFICIENT;
+
+/**
+ * Неизменяемая таблица отпускных для одной средней зарплаты.
+ * <p>
+ * Содержит суммы отпускных для отпуска от 1 до {@code MAX_VACATION_DAYS} дней.
+ * Среднедневной заработок вычисляется один раз, после чего каждая сумма
+ * получается умножением на количество дней с тем же округлением, что и в
+ * {@link VacationPayEngine#calculatePayment(BigDecimal, int)}.
+ * </p>
+ *
+ * @see VacationPayEngine
+ */
+public final class PayTable {
+    /**
+     * Делитель для перехода от точности среднедневного заработка к копейкам.
+     */
+    private static final long KOPECK_SCALE = BigDecimal.ONE.scaleByPowerOfTen(DAILY_EARNINGS_SCALE - DECIMAL_PLACES).longValueExact();
+
+    private final BigDecimal dailyEarnings;
+    private final BigDecimal[] amounts;
+
+    private PayTable(BigDecimal dailyEarnings, BigDecimal[] amounts) {
+        this.dailyEarnings = dailyEarnings;
+        this.amounts = amounts;
+    }
+
+    /**
+     * Рассчитывает таблицу отпускных.
+     *
+     * @param averageSalary средняя заработная плата (должна быть больше нуля)
+     * @return таблица сумм для 1..28 дней отпуска
+     */
+    public static PayTable calculate(BigDecimal averageSalary) {
+        BigDecimal dailyEarnings = averageSalary.divide(STANDARD_COEFFICIENT, DAILY_EARNINGS_SCALE, ROUNDING_MODE);
+        BigDecimal[] amounts = new BigDecimal[MAX_VACATION_DAYS];
+        for (int days = 1; days <= MAX_VACATION_DAYS; days++) {
+            amounts[days - 1] = dailyEarnings
+                    .multiply(BigDecimal.valueOf(days))
+                    .setScale(DECIMAL_PLACES, ROUNDING_MODE);
+        }
+        return new PayTable(dailyEarnings, amounts);
+    }
+
+    /**
+     * @return среднедневной заработок с промежуточной точностью расчета
+     */
+    public BigDecimal getDailyEarnings() {
+        return dailyEarnings;
+    }
+
+    /**
+     * @param numberOfVacationDays количество дней отпуска (1..28)
+     * @return сумма отпускных за указанное количество дней
+     */
+    public BigDecimal getAmount(int numberOfVacationDays) {
+        return amounts[numberOfVacationDays - 1];
+    }
+
+    /**
+     * @return суммы отпускных, где элемент с индексом {@code i} соответствует {@code i + 1} дням
+     */
+    public List<BigDecimal> getAmounts() {
+        return List.of(amounts);
+    }
+
+    /**
+     * Вычисляет среднедневной заработок в фиксированной точке.
+     *
+     * @param averageSalary средняя заработная плата (должна быть больше нуля)
+     * @return среднедневной заработок, умноженный на {@code 10^DAILY_EARNINGS_SCALE}
+     * @throws ArithmeticException если значение не помещается в {@code long}
+     */
+    public static long scaledDailyEarnings(BigDecimal averageSalary) {
+        return averageSalary.divide(STANDARD_COEFFICIENT, DAILY_EARNINGS_SCALE, ROUNDING_MODE)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * Вычисляет сумму отпускных в копейках по среднедневному заработку в фиксированной точке.
+     * <p>
+     * Результат совпадает с {@link VacationPayEngine#calculatePayment(BigDecimal, int)},
+     * но вычисляется без создания объектов, что позволяет агрегировать суммы
+     * по сотням тысяч строк.
+     * </p>
+     *
+     * @param scaledDailyEarnings результат {@link #scaledDailyEarnings(BigDecimal)}
+     * @param numberOfVacationDays количество оплачиваемых дней (неотрицательное)
+     * @return сумма отпускных в копейках
+     */
+    public static long amountInKopecks(long scaledDailyEarnings, int numberOfVacationDays) {
+        return (Math.multiplyExact(scaledDailyEarnings, numberOfVacationDays) + KOPECK_SCALE / 2) / KOPECK_SCALE;
+    }
+}
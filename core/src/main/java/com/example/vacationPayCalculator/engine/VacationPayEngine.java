@@ -0,0 +1,273 @@
+package com.example.vacationPayCalculator.engine;
+
+import com.example.vacationPayCalculator.calendar.DateRange;
+import com.example.vacationPayCalculator.calendar.HolidayBitmap;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Детерминированный движок расчета отпускных без зависимостей от фреймворков.
+ * <p>
+ * Объединяет подсчет оплачиваемых дней по битовой карте праздников,
+ * арифметику отпускных и валидацию входных данных. Предназначен для встраивания
+ * в другие JVM-приложения (например, расчет зарплаты), которым нужно вызывать
+ * калькулятор в своем процессе без HTTP и JSON. Spring-приложение использует
+ * этот же движок через {@code CalendarService} и {@code VacationPaymentServiceImpl}.
+ * </p>
+ *
+ * <p>Экземпляр неизменяем и потокобезопасен: один движок можно разделять между
+ * любым количеством потоков. Подсчет дней выполняется за O(1) на период и не
+ * создает объектов; при изменении календаря создается новый движок.</p>
+ *
+ * <p>Расчетная формула:</p>
+ * <pre>
+ * Отпускные = (Средняя зарплата / 29.3) × Количество оплачиваемых дней
+ * </pre>
+ *
+ * <p>Пример использования:</p>
+ * <pre>
+ * VacationPayEngine engine = VacationPayEngine.withHolidays(List.of(LocalDate.of(2026, 6, 12)));
+ * BigDecimal amount = engine.calculatePaymentWithDates(
+ *     new BigDecimal("50000.00"),
+ *     LocalDate.of(2026, 6, 8),
+ *     LocalDate.of(2026, 6, 21)
+ * ); // отпускные за 13 оплачиваемых дней
+ * </pre>
+ *
+ * @see HolidayBitmap
+ * @see PayTable
+ * @see VacationCalculationException
+ */
+public final class VacationPayEngine {
+    /**
+     * Стандартный коэффициент для расчета среднедневного заработка.
+     * Согласно Трудовому кодексу РФ, среднемесячное количество календарных дней равно 29.3.
+     */
+    public static final BigDecimal STANDARD_COEFFICIENT = new BigDecimal("29.3");
+    public static final int MAX_VACATION_DAYS = 28;
+    public static final int DECIMAL_PLACES = 2;
+    public static final int DAILY_EARNINGS_SCALE = 10;
+    public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+    private final HolidayBitmap holidays;
+
+    /**
+     * @param holidays битовая карта праздников действующего календаря
+     */
+    public VacationPayEngine(HolidayBitmap holidays) {
+        if (holidays == null) {
+            throw new IllegalArgumentException("Битовая карта праздников не может быть null");
+        }
+        this.holidays = holidays;
+    }
+
+    /**
+     * Создает движок по списку праздничных дней.
+     *
+     * @param holidays праздничные дни (повторы и {@code null} игнорируются)
+     * @return движок расчета
+     */
+    public static VacationPayEngine withHolidays(Collection<LocalDate> holidays) {
+        return new VacationPayEngine(HolidayBitmap.of(holidays));
+    }
+
+    /**
+     * @return битовая карта праздников, по которой считаются оплачиваемые дни
+     */
+    public HolidayBitmap getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * Рассчитывает количество оплачиваемых (непраздничных) дней между двумя датами.
+     *
+     * @param startDate дата начала периода (включительно)
+     * @param endDate дата окончания периода (включительно)
+     * @return количество оплачиваемых дней в периоде
+     * @throws VacationCalculationException если дата равна null, начало позже окончания
+     *          или в периоде нет оплачиваемых дней
+     */
+    public int getDaysBetweenDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new VacationCalculationException("Даты не могут быть null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new VacationCalculationException("Дата начала не может быть позже даты окончания отпуска");
+        }
+
+        int countDays = holidays.countPaidDays(startDate.toEpochDay(), endDate.toEpochDay());
+        if (countDays == 0) {
+            throw new VacationCalculationException(
+                    "В указанном периоде нет оплачиваемых дней. Все дни являются праздничными."
+            );
+        }
+        return countDays;
+    }
+
+    /**
+     * Рассчитывает количество оплачиваемых дней в каждом из нескольких периодов отпуска.
+     * <p>
+     * Периоды упорядочиваются по дате начала и проверяются на пересечение.
+     * Периодов в одном отпуске немного, поэтому индексы сортируются вставками
+     * без упаковки в объекты. Результат возвращается в порядке исходного списка.
+     * </p>
+     *
+     * @param periods периоды отпуска (обе границы включаются)
+     * @return количество оплачиваемых дней для каждого периода
+     * @throws VacationCalculationException если дата периода равна null, начало позже окончания,
+     *          периоды пересекаются или в каком-либо периоде нет оплачиваемых дней
+     */
+    public int[] getDaysInPeriods(List<DateRange> periods) {
+        int count = periods.size();
+        long[] starts = new long[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            DateRange period = periods.get(i);
+            if (period.startDate() == null || period.endDate() == null) {
+                throw new VacationCalculationException("Даты не могут быть null");
+            }
+            if (period.startDate().isAfter(period.endDate())) {
+                throw new VacationCalculationException("Дата начала не может быть позже даты окончания отпуска");
+            }
+            starts[i] = period.startDate().toEpochDay();
+
+            int position = i;
+            while (position > 0 && starts[order[position - 1]] > starts[i]) {
+                order[position] = order[position - 1];
+                position--;
+            }
+            order[position] = i;
+        }
+
+        int[] paidDays = new int[count];
+        DateRange previous = null;
+        for (int index : order) {
+            DateRange period = periods.get(index);
+            if (previous != null && previous.overlaps(period)) {
+                throw new VacationCalculationException(
+                        "Периоды отпуска пересекаются: " + previous + " и " + period);
+            }
+
+            int countDays = holidays.countPaidDays(starts[index], period.endDate().toEpochDay());
+            if (countDays == 0) {
+                throw new VacationCalculationException(
+                        "В периоде " + period + " нет оплачиваемых дней. Все дни являются праздничными."
+                );
+            }
+
+            paidDays[index] = countDays;
+            previous = period;
+        }
+        return paidDays;
+    }
+
+    /**
+     * Пакетно рассчитывает количество оплачиваемых дней для колонок границ диапазонов.
+     * <p>
+     * Диапазон без оплачиваемых дней не является ошибкой: для него возвращается {@code 0}.
+     * </p>
+     *
+     * @param startEpochDays первые дни диапазонов ({@link LocalDate#toEpochDay()}, включительно)
+     * @param endEpochDays последние дни диапазонов (включительно)
+     * @return количество оплачиваемых дней для каждого диапазона
+     * @throws VacationCalculationException если длины массивов не совпадают
+     *          или начало какого-либо диапазона позже его окончания
+     */
+    public int[] countPaidDays(int[] startEpochDays, int[] endEpochDays) {
+        if (startEpochDays == null || endEpochDays == null || startEpochDays.length != endEpochDays.length) {
+            throw new VacationCalculationException("Количество дат начала и окончания должно совпадать");
+        }
+        for (int i = 0; i < startEpochDays.length; i++) {
+            if (startEpochDays[i] > endEpochDays[i]) {
+                throw new VacationCalculationException(
+                        "Дата начала не может быть позже даты окончания отпуска (диапазон " + i + ")");
+            }
+        }
+
+        int[] paidDays = new int[startEpochDays.length];
+        holidays.countPaidDays(startEpochDays, endEpochDays, paidDays);
+        return paidDays;
+    }
+
+    /**
+     * Рассчитывает отпускные по количеству дней отпуска; все дни считаются оплачиваемыми.
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев
+     * @param numberOfVacationDays количество дней отпуска (1..28)
+     * @return сумма отпускных, округленная до копеек
+     * @throws VacationCalculationException если параметры некорректны
+     */
+    public BigDecimal calculatePaymentWithNumberOfDays(BigDecimal averageSalary, int numberOfVacationDays) {
+        validateSalaryAndDays(averageSalary, numberOfVacationDays);
+        return calculatePayment(averageSalary, numberOfVacationDays);
+    }
+
+    /**
+     * Рассчитывает отпускные за период с учетом праздничных дней.
+     *
+     * @param averageSalary средняя заработная плата за 12 месяцев
+     * @param startDate дата начала отпуска (включительно)
+     * @param endDate дата окончания отпуска (включительно)
+     * @return сумма отпускных, округленная до копеек
+     * @throws VacationCalculationException если параметры некорректны или в периоде нет оплачиваемых дней
+     */
+    public BigDecimal calculatePaymentWithDates(BigDecimal averageSalary, LocalDate startDate, LocalDate endDate) {
+        int numberOfVacationDays = getDaysBetweenDates(startDate, endDate);
+        validateSalaryAndDays(averageSalary, numberOfVacationDays);
+        return calculatePayment(averageSalary, numberOfVacationDays);
+    }
+
+    /**
+     * Выполняет расчет суммы отпускных без валидации параметров.
+     * <p>
+     * Среднедневной заработок вычисляется с точностью 10 знаков после запятой,
+     * окончательный результат округляется до 2 знаков.
+     * </p>
+     *
+     * @param averageSalary средняя заработная плата
+     * @param numberOfVacationDays количество оплачиваемых дней отпуска
+     * @return сумма отпускных
+     */
+    public static BigDecimal calculatePayment(BigDecimal averageSalary, int numberOfVacationDays) {
+        return averageSalary
+                .divide(STANDARD_COEFFICIENT, DAILY_EARNINGS_SCALE, ROUNDING_MODE)
+                .multiply(BigDecimal.valueOf(numberOfVacationDays))
+                .setScale(DECIMAL_PLACES, ROUNDING_MODE);
+    }
+
+    /**
+     * Выполняет валидацию входных параметров для расчета.
+     *
+     * @param averageSalary средняя заработная плата
+     * @param numberOfVacationDays количество дней отпуска
+     * @throws VacationCalculationException если параметры некорректны
+     */
+    public static void validateSalaryAndDays(BigDecimal averageSalary, int numberOfVacationDays) {
+        validateSalary(averageSalary);
+
+        if (numberOfVacationDays > MAX_VACATION_DAYS) {
+            throw new VacationCalculationException("Отпуск не может быть больше 28 дней");
+        }
+
+        if (numberOfVacationDays < 1) {
+            throw new VacationCalculationException("Количество дней отпуска должно быть не менее 1");
+        }
+    }
+
+    /**
+     * Выполняет валидацию средней заработной платы.
+     *
+     * @param averageSalary средняя заработная плата
+     * @throws VacationCalculationException если зарплата не указана или не больше нуля
+     */
+    public static void validateSalary(BigDecimal averageSalary) {
+        if (averageSalary == null || averageSalary.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new VacationCalculationException("Зарплата должна быть больше нуля");
+        }
+    }
+}
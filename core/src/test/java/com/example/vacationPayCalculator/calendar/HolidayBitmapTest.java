@@ -0,0 +1,105 @@
+package com.example.vacationPayCalculator.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для класса {@link HolidayBitmap}.
+ * <p>
+ * Результаты подсчета по битовой карте сравниваются с подневным перебором
+ * на случайных диапазонах, в том числе выходящих за границы карты.
+ * </p>
+ *
+ * @see HolidayBitmap
+ */
+public class HolidayBitmapTest {
+
+    @Test
+    void shouldCountPaidDaysLikeDailyLoop() {
+        //Given
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            holidays.add(base.plusDays(random.nextInt(3 * 366)));
+        }
+        HolidayBitmap bitmap = HolidayBitmap.of(holidays);
+
+        //When & Then
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate start = base.plusDays(random.nextInt(4 * 366) - 200);
+            LocalDate end = start.plusDays(random.nextInt(400));
+            int expected = 0;
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (!holidays.contains(date)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, bitmap.countPaidDays(start.toEpochDay(), end.toEpochDay()),
+                    "Диапазон " + start + " — " + end);
+        }
+    }
+
+    @Test
+    void shouldCountColumnsIntoResultArray() {
+        //Given
+        HolidayBitmap bitmap = HolidayBitmap.of(List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2)));
+        int newYear = (int) LocalDate.of(2026, 1, 1).toEpochDay();
+        int[] paidDays = new int[3];
+
+        //When
+        bitmap.countPaidDays(new int[]{newYear, newYear, newYear + 2}, new int[]{newYear + 9, newYear + 1, newYear + 2}, paidDays);
+
+        //Then
+        assertEquals(8, paidDays[0]);
+        assertEquals(0, paidDays[1]);
+        assertEquals(1, paidDays[2]);
+        assertTrue(bitmap.isHoliday(newYear));
+        assertFalse(bitmap.isHoliday(newYear + 2));
+    }
+
+    @Test
+    void shouldBuildSameBitmapFromSnapshotWords() throws IOException {
+        //Given
+        Random random = new Random(7);
+        LocalDate base = LocalDate.of(2023, 1, 1);
+        Set<LocalDate> holidays = new HashSet<>(List.of(
+                base, LocalDate.of(2024, 12, 31), LocalDate.of(2025, 12, 31), LocalDate.of(2027, 12, 31)));
+        for (int i = 0; i < 300; i++) {
+            holidays.add(base.plusDays(random.nextInt(5 * 365)));
+        }
+        HolidaySnapshot snapshot = HolidaySnapshot.wrap(HolidaySnapshotWriter.toBuffer("v1", holidays));
+
+        //When
+        HolidayBitmap fromSnapshot = HolidayBitmap.of(snapshot);
+        HolidayBitmap fromList = HolidayBitmap.of(holidays);
+
+        //Then
+        for (long day = base.toEpochDay() - 100; day <= base.toEpochDay() + 6 * 366; day++) {
+            assertEquals(fromList.isHoliday(day), fromSnapshot.isHoliday(day), "День " + LocalDate.ofEpochDay(day));
+            assertEquals(fromList.countPaidDays(base.toEpochDay() - 10, day),
+                    fromSnapshot.countPaidDays(base.toEpochDay() - 10, day));
+        }
+    }
+
+    @Test
+    void shouldTreatEmptyCalendarAsAllPaid() {
+        //Given
+        HolidayBitmap bitmap = HolidayBitmap.of(List.of());
+
+        //When & Then
+        assertEquals(366, bitmap.countPaidDays(0, 365));
+        assertEquals(0, bitmap.countHolidays(0, 365));
+        assertEquals(0, bitmap.countPaidDays(10, 9));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.vacationPayCalculator.calendar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Модульные тесты для импорта календарей и бинарного снимка {@link HolidaySnapshot}.
+ * <p>
+ * Проверяют разбор файлов iCalendar и CSV, запись снимка, его отображение
+ * в память и обнаружение поврежденных файлов.
+ * </p>
+ *
+ * @see HolidayCalendarImporter
+ * @see HolidaySnapshotWriter
+ * @see HolidaySnapshot
+ */
+public class HolidaySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseICalendarEvents() {
+        //Given
+        List<String> lines = List.of(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:Новогодние каникулы",
+                "DTSTART;VALUE=DATE:20260101",
+                "DTEND;VALUE=DATE:20260104",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:2026",
+                " 0223",
+                "END:VEVENT",
+                "END:VCALENDAR"
+        );
+
+        //When
+        SortedSet<LocalDate> holidays = HolidayCalendarImporter.parseICalendar(lines);
+
+        //Then
+        assertEquals(List.of(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 2),
+                LocalDate.of(2026, 1, 3),
+                LocalDate.of(2026, 2, 23)
+        ), List.copyOf(holidays));
+    }
+
+    @Test
+    void shouldParseCsvWithHeaderAndBothDateFormats() {
+        //Given
+        List<String> lines = List.of(
+                "date;name",
+                "# комментарий",
+                "2026-03-08;Международный женский день",
+                "",
+                "09.05.2026,День Победы"
+        );
+
+        //When
+        SortedSet<LocalDate> holidays = HolidayCalendarImporter.parseCsv(lines);
+
+        //Then
+        assertEquals(List.of(LocalDate.of(2026, 3, 8), LocalDate.of(2026, 5, 9)), List.copyOf(holidays));
+    }
+
+    @Test
+    void shouldRoundTripSnapshotThroughFile() throws IOException {
+        //Given
+        List<LocalDate> holidays = List.of(
+                LocalDate.of(2024, 12, 31),
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2026, 11, 4)
+        );
+        Path file = tempDir.resolve("holidays.bin");
+
+        //When
+        HolidaySnapshotWriter.write(file, "2026.1", holidays);
+        HolidaySnapshot snapshot = HolidaySnapshot.open(file);
+
+        //Then
+        assertEquals("2026.1", snapshot.getVersion());
+        assertEquals(2024, snapshot.getFirstYear());
+        assertEquals(3, snapshot.getYearCount());
+        assertEquals(holidays, snapshot.getHolidays());
+        assertTrue(snapshot.isHoliday(LocalDate.of(2024, 12, 31)));
+        assertFalse(snapshot.isHoliday(LocalDate.of(2025, 1, 2)));
+        assertFalse(snapshot.isHoliday(LocalDate.of(2030, 1, 1)), "Даты вне снимка не являются праздниками");
+    }
+
+    @Test
+    void shouldThrowException_WhenSnapshotCorrupted() throws IOException {
+        //Given
+        ByteBuffer buffer = HolidaySnapshotWriter.toBuffer("v1", List.of(LocalDate.of(2026, 1, 1)));
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        bytes[bytes.length - 12] ^= 1;
+        Path file = tempDir.resolve("corrupted.bin");
+        Files.write(file, bytes);
+
+        //When & Then
+        IOException exception = assertThrows(IOException.class, () -> HolidaySnapshot.open(file));
+        assertTrue(exception.getMessage().startsWith("Контрольная сумма снимка календаря не совпадает"));
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.vacationPayCalculator.engine;
+
+import com.example.vacationPayCalculator.calendar.DateRange;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Дифференциальная проверка оптимизированных реализаций расчета против {@link ReferenceCalculator}.
+ * <p>
+ * Генерирует случайные наборы праздников (от пустых до сплошных, в том числе до эпохи
+ * и в далеких годах), периоды (обычные, многолетние, перевернутые, с {@code null}
+ * и целиком праздничные) и зарплаты (в том числе дающие ровно половину копейки при
+ * округлении) и сравнивает результат проверяемой реализации с эталоном: совпадать
+ * должно либо значение, либо исключение вместе с сообщением.
+ * </p>
+ *
+ * <p>Генерация детерминирована зерном: при расхождении сообщение содержит зерно
+ * и входные данные, на которых реализации разошлись.</p>
+ *
+ * <p>Количество проверок по умолчанию задает тест; для длительного прогона его
+ * можно увеличить системным свойством:</p>
+ * <pre>
+ * mvn test -Ddifferential.iterations=50000000
+ * </pre>
+ *
+ * <p>Класс публикуется в test-jar модуля {@code core}, чтобы тем же эталоном
+ * проверялись адаптеры Spring-приложения.</p>
+ */
+public final class DifferentialHarness {
+    public static final String ITERATIONS_PROPERTY = "differential.iterations";
+
+    /**
+     * Количество периодов, проверяемых на одном наборе праздников.
+     */
+    public static final int RANGES_PER_HOLIDAY_SET = 5_000;
+
+    private static final double[] HOLIDAY_DENSITIES = {0.0, 0.003, 0.03, 0.3, 0.9, 1.0};
+    private static final BigDecimal AVERAGE_DAYS_IN_MONTH = new BigDecimal("29.3");
+
+    /**
+     * Подсчет оплачиваемых дней в периоде.
+     */
+    @FunctionalInterface
+    public interface PaidDayCounter {
+        int count(LocalDate startDate, LocalDate endDate);
+    }
+
+    /**
+     * Подсчет оплачиваемых дней в нескольких периодах отпуска.
+     */
+    @FunctionalInterface
+    public interface PeriodsCounter {
+        int[] count(List<DateRange> periods);
+    }
+
+    /**
+     * Расчет суммы отпускных по зарплате и количеству дней.
+     */
+    @FunctionalInterface
+    public interface PaymentCalculator {
+        BigDecimal calculate(BigDecimal averageSalary, int numberOfVacationDays);
+    }
+
+    private final long seed;
+    private final int iterations;
+
+    /**
+     * @param seed зерно генератора
+     * @param defaultIterations количество проверок, если не задано свойство {@value #ITERATIONS_PROPERTY}
+     */
+    public DifferentialHarness(long seed, int defaultIterations) {
+        this.seed = seed;
+        this.iterations = Integer.getInteger(ITERATIONS_PROPERTY, defaultIterations);
+    }
+
+    /**
+     * @return количество проверок в каждом методе {@code check*}
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return количество наборов праздников, создаваемых одной проверкой периодов
+     */
+    public int getHolidaySetCount() {
+        return (iterations + RANGES_PER_HOLIDAY_SET - 1) / RANGES_PER_HOLIDAY_SET;
+    }
+
+    /**
+     * Сравнивает реализацию {@code getDaysBetweenDates} с эталоном, включая
+     * некорректные периоды и тексты исключений.
+     *
+     * @param name название реализации для сообщения о расхождении
+     * @param candidateFactory создает проверяемую реализацию для набора праздников
+     * @throws AssertionError при первом расхождении с эталоном
+     */
+    public void checkDaysBetweenDates(String name, Function<List<LocalDate>, PaidDayCounter> candidateFactory) {
+        checkRanges(name, candidateFactory, true);
+    }
+
+    /**
+     * Сравнивает пакетный подсчет оплачиваемых дней с эталоном на корректных периодах;
+     * период без оплачиваемых дней дает {@code 0}.
+     *
+     * @param name название реализации для сообщения о расхождении
+     * @param candidateFactory создает проверяемую реализацию для набора праздников
+     * @throws AssertionError при первом расхождении с эталоном
+     */
+    public void checkPaidDays(String name, Function<List<LocalDate>, PaidDayCounter> candidateFactory) {
+        checkRanges(name, candidateFactory, false);
+    }
+
+    private void checkRanges(String name, Function<List<LocalDate>, PaidDayCounter> candidateFactory,
+                             boolean withInvalid) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int remaining = iterations; remaining > 0; remaining -= RANGES_PER_HOLIDAY_SET) {
+            HolidaySet holidays = holidaySet(random);
+            ReferenceCalculator reference = new ReferenceCalculator(holidays.dates());
+            PaidDayCounter candidate = candidateFactory.apply(holidays.dates());
+
+            for (int i = Math.min(remaining, RANGES_PER_HOLIDAY_SET); i > 0; i--) {
+                DateRange range = range(random, holidays, withInvalid);
+                Object expected = withInvalid
+                        ? outcome(() -> reference.getDaysBetweenDates(range.startDate(), range.endDate()))
+                        : outcome(() -> reference.countPaidDays(range.startDate(), range.endDate()));
+                Object actual = outcome(() -> candidate.count(range.startDate(), range.endDate()));
+                if (!expected.equals(actual)) {
+                    throw mismatch(name, holidays + ", период " + range, expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Сравнивает подсчет дней в нескольких периодах с эталоном. Периоды подаются
+     * в случайном порядке; часть наборов содержит пересечения, перевернутые
+     * и целиком праздничные периоды. Для отказов сравнивается тип исключения:
+     * текст зависит от того, какая пара периодов проверена первой.
+     *
+     * @param name название реализации для сообщения о расхождении
+     * @param candidateFactory создает проверяемую реализацию для набора праздников
+     * @throws AssertionError при первом расхождении с эталоном
+     */
+    public void checkDaysInPeriods(String name, Function<List<LocalDate>, PeriodsCounter> candidateFactory) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int remaining = iterations; remaining > 0; remaining -= RANGES_PER_HOLIDAY_SET) {
+            HolidaySet holidays = holidaySet(random);
+            ReferenceCalculator reference = new ReferenceCalculator(holidays.dates());
+            PeriodsCounter candidate = candidateFactory.apply(holidays.dates());
+
+            for (int i = Math.min(remaining, RANGES_PER_HOLIDAY_SET); i > 0; i--) {
+                List<DateRange> periods = periods(random, holidays);
+                Object expected = outcome(() -> Arrays.toString(reference.getDaysInPeriods(periods)));
+                Object actual = outcome(() -> Arrays.toString(candidate.count(periods)));
+                boolean matches = expected instanceof Rejection expectedRejection
+                        && actual instanceof Rejection actualRejection
+                        ? expectedRejection.type().equals(actualRejection.type())
+                        : expected.equals(actual);
+                if (!matches) {
+                    throw mismatch(name, holidays + ", периоды " + periods, expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Сравнивает расчет суммы отпускных с эталоном на корректных входных данных.
+     * Суммы сравниваются вместе с масштабом ({@link BigDecimal#equals(Object)}).
+     *
+     * @param name название реализации для сообщения о расхождении
+     * @param candidate проверяемая реализация
+     * @throws AssertionError при первом расхождении с эталоном
+     */
+    public void checkPayments(String name, PaymentCalculator candidate) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < iterations; i++) {
+            BigDecimal averageSalary = salary(random);
+            int numberOfVacationDays = random.nextInt(1, VacationPayEngine.MAX_VACATION_DAYS + 1);
+
+            Object expected = outcome(() -> ReferenceCalculator.calculatePayment(averageSalary, numberOfVacationDays));
+            Object actual = outcome(() -> candidate.calculate(averageSalary, numberOfVacationDays));
+            if (!expected.equals(actual)) {
+                throw mismatch(name, "зарплата " + averageSalary + ", дней " + numberOfVacationDays, expected, actual);
+            }
+        }
+    }
+
+    private AssertionError mismatch(String name, String input, Object expected, Object actual) {
+        return new AssertionError(String.format("%s расходится с эталоном (зерно %d): %s: ожидалось %s, получено %s",
+                name, seed, input, expected, actual));
+    }
+
+    private static Object outcome(Supplier<?> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return new Rejection(e.getClass().getName(), e.getMessage());
+        }
+    }
+
+    private record Rejection(String type, String message) {
+    }
+
+    private record HolidaySet(List<LocalDate> dates, long firstEpochDay, int span) {
+        @Override
+        public String toString() {
+            return "праздников " + dates.size() + " с " + LocalDate.ofEpochDay(firstEpochDay) + " на " + span + " дней";
+        }
+    }
+
+    /**
+     * Набор праздников на отрезке до 3000 дней: чаще в ближайших десятилетиях,
+     * иногда в произвольном году, в том числе до эпохи. Плотность — от пустого
+     * набора до сплошного; изредка содержит повторы.
+     */
+    private static HolidaySet holidaySet(SplittableRandom random) {
+        long firstEpochDay = random.nextInt(4) == 0
+                ? random.nextLong(-1_000_000, 1_000_000)
+                : LocalDate.of(2000, 1, 1).toEpochDay() + random.nextInt(20_000);
+        int span = random.nextInt(1, 3_000);
+        double density = HOLIDAY_DENSITIES[random.nextInt(HOLIDAY_DENSITIES.length)];
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 0; day < span; day++) {
+            if (random.nextDouble() < density) {
+                dates.add(LocalDate.ofEpochDay(firstEpochDay + day));
+            }
+        }
+        if (!dates.isEmpty() && random.nextInt(8) == 0) {
+            dates.add(dates.get(random.nextInt(dates.size())));
+        }
+        return new HolidaySet(dates, firstEpochDay, span);
+    }
+
+    /**
+     * Период около отрезка праздников: обычно до двух месяцев, каждый десятый — до четырех лет.
+     * С {@code withInvalid} около 1% периодов содержит {@code null} и около 3% перевернуты.
+     */
+    private static DateRange range(SplittableRandom random, HolidaySet holidays, boolean withInvalid) {
+        LocalDate startDate = LocalDate.ofEpochDay(
+                holidays.firstEpochDay() + random.nextLong(-100, holidays.span() + 100));
+        LocalDate endDate = startDate.plusDays(random.nextInt(10) == 0 ? random.nextInt(1_500) : random.nextInt(60));
+        if (withInvalid) {
+            int kind = random.nextInt(100);
+            if (kind == 0) {
+                return random.nextBoolean() ? new DateRange(null, endDate) : new DateRange(startDate, null);
+            }
+            if (kind < 4 && startDate.isBefore(endDate)) {
+                return new DateRange(endDate, startDate);
+            }
+        }
+        return new DateRange(startDate, endDate);
+    }
+
+    /**
+     * От одного до пяти идущих подряд периодов в случайном порядке; в каждом пятом наборе
+     * один период пересекается с другим, в каждом пятидесятом один период перевернут.
+     */
+    private static List<DateRange> periods(SplittableRandom random, HolidaySet holidays) {
+        int count = random.nextInt(1, 6);
+        List<DateRange> periods = new ArrayList<>(count);
+        LocalDate cursor = LocalDate.ofEpochDay(holidays.firstEpochDay() + random.nextLong(-100, holidays.span() + 100));
+        for (int i = 0; i < count; i++) {
+            LocalDate startDate = cursor.plusDays(random.nextInt(20));
+            LocalDate endDate = startDate.plusDays(random.nextInt(30));
+            periods.add(new DateRange(startDate, endDate));
+            cursor = endDate.plusDays(1);
+        }
+
+        if (count > 1 && random.nextInt(5) == 0) {
+            DateRange other = periods.get(random.nextInt(count - 1));
+            periods.set(count - 1, new DateRange(other.endDate(), other.endDate().plusDays(random.nextInt(10))));
+        }
+        if (random.nextInt(50) == 0) {
+            DateRange period = periods.get(0);
+            periods.set(0, new DateRange(period.endDate().plusDays(1), period.startDate()));
+        }
+
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            DateRange swapped = periods.get(i);
+            periods.set(i, periods.get(j));
+            periods.set(j, swapped);
+        }
+        return periods;
+    }
+
+    /**
+     * Зарплата до 100 млн с 0–4 знаками после запятой; каждая десятая кратна
+     * 29.3 × 0.001, так что сумма до округления нередко оканчивается ровно на половину копейки.
+     */
+    private static BigDecimal salary(SplittableRandom random) {
+        if (random.nextInt(10) == 0) {
+            return AVERAGE_DAYS_IN_MONTH.multiply(BigDecimal.valueOf(random.nextLong(1, 3_000_000_000L), 3));
+        }
+        int scale = random.nextInt(5);
+        int digits = random.nextInt(1, 9);
+        long bound = BigDecimal.ONE.scaleByPowerOfTen(digits + scale).longValueExact();
+        return BigDecimal.valueOf(random.nextLong(1, bound), scale);
+    }
+}
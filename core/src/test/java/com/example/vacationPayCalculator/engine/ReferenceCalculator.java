@@ -0,0 +1,106 @@
+package com.example.vacationPayCalculator.engine;
+
+import com.example.vacationPayCalculator.calendar.DateRange;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Эталонная реализация расчета для дифференциального тестирования.
+ * <p>
+ * Намеренно написана без оптимизаций: оплачиваемые дни считаются подневным обходом
+ * периода с проверкой каждой даты по множеству праздников, сумма — прямой записью
+ * формулы из Трудового кодекса. Оптимизированные реализации сравниваются с ней
+ * в {@link DifferentialHarness}.
+ * </p>
+ */
+public final class ReferenceCalculator {
+    private static final BigDecimal AVERAGE_DAYS_IN_MONTH = new BigDecimal("29.3");
+
+    private final Set<LocalDate> holidays;
+
+    public ReferenceCalculator(Collection<LocalDate> holidays) {
+        this.holidays = new HashSet<>(holidays);
+    }
+
+    /**
+     * Считает оплачиваемые дни периода подневным обходом.
+     *
+     * @return количество непраздничных дней; {@code 0}, если их нет
+     */
+    public int countPaidDays(LocalDate startDate, LocalDate endDate) {
+        int countDays = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!holidays.contains(date)) {
+                countDays++;
+            }
+        }
+        return countDays;
+    }
+
+    /**
+     * Считает оплачиваемые дни с теми же проверками и сообщениями об ошибках,
+     * что и {@code CalendarService.getDaysBetweenDates}.
+     */
+    public int getDaysBetweenDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new VacationCalculationException("Даты не могут быть null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new VacationCalculationException("Дата начала не может быть позже даты окончания отпуска");
+        }
+        int countDays = countPaidDays(startDate, endDate);
+        if (countDays == 0) {
+            throw new VacationCalculationException(
+                    "В указанном периоде нет оплачиваемых дней. Все дни являются праздничными.");
+        }
+        return countDays;
+    }
+
+    /**
+     * Считает оплачиваемые дни в каждом периоде; пересечения ищутся перебором всех пар.
+     *
+     * @throws VacationCalculationException если период некорректен, периоды пересекаются
+     *          или в каком-либо периоде нет оплачиваемых дней
+     */
+    public int[] getDaysInPeriods(List<DateRange> periods) {
+        for (DateRange period : periods) {
+            if (period.startDate() == null || period.endDate() == null || period.startDate().isAfter(period.endDate())) {
+                throw new VacationCalculationException("Некорректный период " + period);
+            }
+        }
+        for (int i = 0; i < periods.size(); i++) {
+            for (int j = i + 1; j < periods.size(); j++) {
+                DateRange first = periods.get(i);
+                DateRange second = periods.get(j);
+                if (!first.endDate().isBefore(second.startDate()) && !second.endDate().isBefore(first.startDate())) {
+                    throw new VacationCalculationException("Периоды отпуска пересекаются: " + first + " и " + second);
+                }
+            }
+        }
+
+        int[] paidDays = new int[periods.size()];
+        for (int i = 0; i < paidDays.length; i++) {
+            paidDays[i] = countPaidDays(periods.get(i).startDate(), periods.get(i).endDate());
+            if (paidDays[i] == 0) {
+                throw new VacationCalculationException("В периоде " + periods.get(i) + " нет оплачиваемых дней");
+            }
+        }
+        return paidDays;
+    }
+
+    /**
+     * Сумма отпускных: среднедневной заработок с точностью 10 знаков, умноженный
+     * на количество дней и округленный до копеек.
+     */
+    public static BigDecimal calculatePayment(BigDecimal averageSalary, int numberOfVacationDays) {
+        BigDecimal dailyEarnings = averageSalary.divide(AVERAGE_DAYS_IN_MONTH, 10, RoundingMode.HALF_UP);
+        return dailyEarnings.multiply(new BigDecimal(numberOfVacationDays)).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.vacationPayCalculator.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * Дифференциальные тесты {@link VacationPayEngine} и {@link PayTable} против
+ * эталонной реализации {@link ReferenceCalculator}.
+ * <p>
+ * Каждый тест проверяет 100 000 случайных периодов или зарплат, чтобы обычная
+ * сборка оставалась быстрой; для длительного прогона на миллионах проверок
+ * количество задается свойством {@value DifferentialHarness#ITERATIONS_PROPERTY}.
+ * </p>
+ *
+ * @see DifferentialHarness
+ */
+public class VacationPayEngineDifferentialTest {
+    private static final long SEED = 20_261_018L;
+
+    private final DifferentialHarness harness = new DifferentialHarness(SEED, 100_000);
+
+    @Test
+    void shouldMatchReference_WhenCountingDaysBetweenDates() {
+        //When & Then
+        harness.checkDaysBetweenDates("VacationPayEngine.getDaysBetweenDates",
+                holidays -> VacationPayEngine.withHolidays(holidays)::getDaysBetweenDates);
+    }
+
+    @Test
+    void shouldMatchReference_WhenCountingPaidDaysInBulk() {
+        //When & Then
+        harness.checkPaidDays("VacationPayEngine.countPaidDays", holidays -> {
+            VacationPayEngine engine = VacationPayEngine.withHolidays(holidays);
+            return (startDate, endDate) -> engine.countPaidDays(
+                    new int[]{Math.toIntExact(startDate.toEpochDay())},
+                    new int[]{Math.toIntExact(endDate.toEpochDay())})[0];
+        });
+    }
+
+    @Test
+    void shouldMatchReference_WhenCountingDaysInPeriods() {
+        //When & Then
+        harness.checkDaysInPeriods("VacationPayEngine.getDaysInPeriods",
+                holidays -> VacationPayEngine.withHolidays(holidays)::getDaysInPeriods);
+    }
+
+    @Test
+    void shouldMatchReference_WhenCalculatingPayment() {
+        //When & Then
+        harness.checkPayments("VacationPayEngine.calculatePayment", VacationPayEngine::calculatePayment);
+        harness.checkPayments("PayTable.amountInKopecks", (averageSalary, numberOfVacationDays) -> BigDecimal.valueOf(
+                PayTable.amountInKopecks(PayTable.scaledDailyEarnings(averageSalary), numberOfVacationDays),
+                VacationPayEngine.DECIMAL_PLACES));
+    }
+
+    @Test
+    void shouldMatchReference_WhenReadingPayTable() {
+        //Given
+        DifferentialHarness payTableHarness = new DifferentialHarness(SEED, harness.getIterations() / 10);
+
+        //When & Then
+        payTableHarness.checkPayments("PayTable.getAmount", (averageSalary, numberOfVacationDays) ->
+                PayTable.calculate(averageSalary).getAmount(numberOfVacationDays));
+    }
+}
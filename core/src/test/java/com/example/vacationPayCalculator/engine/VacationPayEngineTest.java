@@ -0,0 +1,126 @@
+package com.example.vacationPayCalculator.engine;
+
+import com.example.vacationPayCalculator.calendar.DateRange;
+import com.example.vacationPayCalculator.exception.VacationCalculationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Модульные тесты для класса {@link VacationPayEngine}.
+ * <p>
+ * Движок проверяется без Spring-контекста: так же, как его используют
+ * встраивающие приложения.
+ * </p>
+ *
+ * @see VacationPayEngine
+ */
+public class VacationPayEngineTest {
+    private static final LocalDate HOLIDAY_DATE = LocalDate.of(2026, 6, 12);
+
+    private final VacationPayEngine engine = VacationPayEngine.withHolidays(List.of(HOLIDAY_DATE));
+
+    @Test
+    void shouldCalculatePaymentWithDates_ExcludingHolidays() {
+        //When
+        BigDecimal result = engine.calculatePaymentWithDates(
+                new BigDecimal("50000.00"),
+                LocalDate.of(2026, 6, 8),
+                LocalDate.of(2026, 6, 21)
+        );
+
+        //Then
+        assertEquals(new BigDecimal("22184.30"), result);
+        assertEquals(VacationPayEngine.calculatePayment(new BigDecimal("50000.00"), 13), result);
+    }
+
+    @Test
+    void shouldCalculatePaymentWithNumberOfDays() {
+        //When
+        BigDecimal result = engine.calculatePaymentWithNumberOfDays(new BigDecimal("50000.00"), 14);
+
+        //Then
+        assertEquals(new BigDecimal("23890.78"), result);
+        assertEquals(PayTable.calculate(new BigDecimal("50000.00")).getAmount(14), result);
+    }
+
+    @Test
+    void shouldCalculateDaysInPeriods_InRequestOrder() {
+        //Given
+        List<DateRange> periods = List.of(
+                new DateRange(LocalDate.of(2026, 12, 21), LocalDate.of(2026, 12, 27)),
+                new DateRange(LocalDate.of(2026, 6, 8), LocalDate.of(2026, 6, 14)),
+                new DateRange(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 3))
+        );
+
+        //When
+        int[] result = engine.getDaysInPeriods(periods);
+
+        //Then
+        assertArrayEquals(new int[]{7, 6, 3}, result);
+    }
+
+    @Test
+    void shouldThrowException_WhenPeriodsOverlapOrInputInvalid() {
+        //Given
+        List<DateRange> overlapping = List.of(
+                new DateRange(LocalDate.of(2026, 6, 10), LocalDate.of(2026, 6, 20)),
+                new DateRange(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 10))
+        );
+
+        //When & Then
+        VacationCalculationException exception = assertThrows(
+                VacationCalculationException.class,
+                () -> engine.getDaysInPeriods(overlapping)
+        );
+        assertEquals("Периоды отпуска пересекаются: 2026-06-01 — 2026-06-10 и 2026-06-10 — 2026-06-20",
+                exception.getMessage());
+        assertThrows(VacationCalculationException.class,
+                () -> engine.getDaysBetweenDates(HOLIDAY_DATE, HOLIDAY_DATE));
+        assertThrows(VacationCalculationException.class,
+                () -> engine.calculatePaymentWithNumberOfDays(BigDecimal.ZERO, 14));
+        assertThrows(VacationCalculationException.class,
+                () -> engine.calculatePaymentWithNumberOfDays(new BigDecimal("50000.00"), 29));
+    }
+
+    @Test
+    void shouldReturnSameResults_WhenSharedBetweenThreads() throws Exception {
+        //Given
+        LocalDate start = LocalDate.of(2026, 6, 1);
+        BigDecimal averageSalary = new BigDecimal("87654.32");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //When
+        List<Future<BigDecimal>> results = new ArrayList<>();
+        try {
+            for (int task = 0; task < 4; task++) {
+                results.add(executor.submit(() -> {
+                    BigDecimal total = BigDecimal.ZERO;
+                    for (int i = 0; i < 10_000; i++) {
+                        total = total.add(engine.calculatePaymentWithDates(
+                                averageSalary, start, start.plusDays(i % 28)));
+                    }
+                    return total;
+                }));
+            }
+
+            //Then
+            BigDecimal expected = results.get(0).get();
+            for (Future<BigDecimal> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}